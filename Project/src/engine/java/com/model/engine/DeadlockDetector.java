@@ -0,0 +1,164 @@
+package com.model.engine;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Finds positions a level can no longer be completed from
+ * Dead squares are worked out once from the walls and diamonds, freeze deadlocks
+ * are checked around a single crate so they can run after every push
+ * Holds scratch space so one detector must only be used by one thread
+ *
+ * @author Zain Rashid
+ */
+public final class DeadlockDetector {
+
+    private final int m_columns;
+    private final int m_cellCount;
+    private final boolean[] m_walkable;
+    private final boolean[] m_diamond;
+    private final long[] m_deadSquares;
+    private final int[] m_visited;
+    private int m_stamp = 0;
+    private boolean m_offDiamond;
+
+    /**
+     * Create detector from the walls and diamonds of a level
+     *
+     * @param level the level to analyse, only its layout is read
+     */
+    public DeadlockDetector(Level level) {
+        m_columns = level.getColumns();
+        m_cellCount = level.getCellCount();
+        m_walkable = new boolean[m_cellCount];
+        m_diamond = new boolean[m_cellCount];
+        m_visited = new int[m_cellCount];
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            m_walkable[cell] = level.isWalkableAt(cell);
+            m_diamond[cell] = level.isDiamondAt(cell);
+        }
+        m_deadSquares = findDeadSquares();
+    }
+
+    /**
+     * Marks every walkable cell a crate cannot be pushed to a diamond from
+     * Breadth first search of crate pulls starting at every diamond at once
+     *
+     * @return bitset with one bit set per dead square
+     */
+    private long[] findDeadSquares() {
+        boolean[] live = new boolean[m_cellCount];
+        int[] queue = new int[m_cellCount];
+        int tail = 0;
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            if (m_diamond[cell] && m_walkable[cell]) {
+                live[cell] = true;
+                queue[tail++] = cell;
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int cell = queue[head];
+            for (byte direction = 0; direction < 4; direction++) {
+                int from = neighbour(cell, direction);
+                int keeper = from < 0 ? -1 : neighbour(from, direction);
+                if (keeper >= 0 && !live[from]) {
+                    live[from] = true;
+                    queue[tail++] = from;
+                }
+            }
+        }
+
+        long[] dead = new long[(m_cellCount + 63) >>> 6];
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            if (m_walkable[cell] && !live[cell]) {
+                dead[cell >>> 6] |= 1L << cell;
+            }
+        }
+        return dead;
+    }
+
+    /**
+     * Finds the walkable cell one step away from a cell
+     *
+     * @param cell      the packed cell index
+     * @param direction the direction code to step in
+     * @return the walkable neighbour or -1 if there is a wall or the grid edge
+     */
+    private int neighbour(int cell, byte direction) {
+        int column = cell % m_columns + Direction.columnDelta(direction);
+        int target = cell + Direction.rowDelta(direction) * m_columns +
+                Direction.columnDelta(direction);
+        if (column < 0 || column >= m_columns || target < 0 ||
+                target >= m_cellCount || !m_walkable[target]) {
+            return -1;
+        }
+        return target;
+    }
+
+    /**
+     * Checks whether a crate on a cell can never reach any diamond
+     *
+     * @param index the packed cell index
+     * @return true if the cell is a dead square else false
+     */
+    public boolean isDeadSquare(int index) {
+        return (m_deadSquares[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks whether a crate is stuck for good, on a dead square or frozen off a diamond
+     * Only crates touching this one are looked at so the check is cheap after a push
+     *
+     * @param crate   the cell of the crate that just moved
+     * @param isCrate tells whether a cell holds a crate
+     * @return true if the level can no longer be completed else false
+     */
+    public boolean isDeadlockAt(int crate, IntPredicate isCrate) {
+        if (isDeadSquare(crate)) {
+            return true;
+        }
+        m_stamp++;
+        m_offDiamond = false;
+        return isFrozen(crate, isCrate) && m_offDiamond;
+    }
+
+    /**
+     * Checks whether a crate can be pushed along neither axis
+     * Crates already on the check are treated as walls so loops of crates end
+     *
+     * @param crate   the crate cell
+     * @param isCrate tells whether a cell holds a crate
+     * @return true if the crate can never move again else false
+     */
+    private boolean isFrozen(int crate, IntPredicate isCrate) {
+        m_visited[crate] = m_stamp;
+        boolean frozen = isBlocked(crate, Direction.LEFT, isCrate) &&
+                isBlocked(crate, Direction.UP, isCrate);
+        if (frozen && !m_diamond[crate]) {
+            m_offDiamond = true;
+        }
+        return frozen;
+    }
+
+    /**
+     * Checks whether a crate cannot be pushed along one axis
+     *
+     * @param crate     the crate cell
+     * @param direction either direction code of the axis
+     * @param isCrate   tells whether a cell holds a crate
+     * @return true if the crate is stuck on that axis else false
+     */
+    private boolean isBlocked(int crate, byte direction, IntPredicate isCrate) {
+        int first = neighbour(crate, direction);
+        int second = neighbour(crate, Direction.opposite(direction));
+        if (first < 0 || second < 0 || m_visited[first] == m_stamp ||
+                m_visited[second] == m_stamp) {
+            return true;
+        }
+        if (isDeadSquare(first) && isDeadSquare(second)) {
+            return true;
+        }
+        return isCrate.test(first) && isFrozen(first, isCrate) ||
+                isCrate.test(second) && isFrozen(second, isCrate);
+    }
+}
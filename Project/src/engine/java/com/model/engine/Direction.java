@@ -0,0 +1,113 @@
+package com.model.engine;
+
+/**
+ * Byte codes for the four keeper move directions
+ * Each direction fits in two bits so moves can be packed tightly
+ *
+ * @author Zain Rashid
+ */
+public final class Direction {
+
+    /**
+     * Code for moving up a row
+     */
+    public static final byte UP = 0;
+    /**
+     * Code for moving right a column
+     */
+    public static final byte RIGHT = 1;
+    /**
+     * Code for moving down a row
+     */
+    public static final byte DOWN = 2;
+    /**
+     * Code for moving left a column
+     */
+    public static final byte LEFT = 3;
+    /**
+     * Code for a delta that is not a single step
+     */
+    public static final byte NONE = -1;
+
+    private static final int[] ROW_DELTAS = {-1, 0, 1, 0};
+    private static final int[] COLUMN_DELTAS = {0, 1, 0, -1};
+    private static final char[] SYMBOLS = {'u', 'r', 'd', 'l'};
+
+    /**
+     * Direction is a holder for static codes and is never instantiated
+     */
+    private Direction() {
+    }
+
+    /**
+     * Getter for the row change of a direction
+     *
+     * @param direction the direction code
+     * @return -1, 0 or 1
+     */
+    public static int rowDelta(byte direction) {
+        return ROW_DELTAS[direction];
+    }
+
+    /**
+     * Getter for the column change of a direction
+     *
+     * @param direction the direction code
+     * @return -1, 0 or 1
+     */
+    public static int columnDelta(byte direction) {
+        return COLUMN_DELTAS[direction];
+    }
+
+    /**
+     * Getter for the direction pointing the other way
+     *
+     * @param direction the direction code
+     * @return the opposite direction code
+     */
+    public static byte opposite(byte direction) {
+        return (byte) (direction ^ 2);
+    }
+
+    /**
+     * Converts a row and column delta into a direction code
+     *
+     * @param rowDelta    the row change
+     * @param columnDelta the column change
+     * @return the direction code or NONE if the delta is not a single step
+     */
+    public static byte fromDelta(int rowDelta, int columnDelta) {
+        for (byte direction = UP; direction <= LEFT; direction++) {
+            if (ROW_DELTAS[direction] == rowDelta &&
+                    COLUMN_DELTAS[direction] == columnDelta) {
+                return direction;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Converts a lower case move letter into a direction code
+     *
+     * @param symbol one of u, r, d or l
+     * @return the direction code or NONE if the letter is not a move
+     */
+    public static byte fromChar(char symbol) {
+        for (byte direction = UP; direction <= LEFT; direction++) {
+            if (SYMBOLS[direction] == symbol) {
+                return direction;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Getter for the lower case letter of a direction, as used in move strings
+     *
+     * @param direction the direction code
+     * @return one of u, r, d or l
+     */
+    public static char toChar(byte direction) {
+        return SYMBOLS[direction];
+    }
+}
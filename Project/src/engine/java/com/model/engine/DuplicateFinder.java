@@ -0,0 +1,167 @@
+package com.model.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+/**
+ * Fingerprints every level of a set of map packs in parallel and reports duplicates
+ * Map set files are read through their catalog, .xsb, .sok and .txt collections through
+ * XsbImporter. Run from the command line with the pack files as arguments
+ *
+ * @author Zain Rashid
+ */
+public class DuplicateFinder {
+
+    private final ForkJoinPool m_pool;
+
+    /**
+     * Create finder on the common pool
+     */
+    public DuplicateFinder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create finder on a chosen pool
+     *
+     * @param pool the pool the levels are fingerprinted on
+     */
+    public DuplicateFinder(ForkJoinPool pool) {
+        m_pool = pool;
+    }
+
+    /**
+     * Prints the duplicates found in the map packs named on the command line
+     *
+     * @param args paths of the map pack files
+     * @throws IOException if a pack couldn't be read
+     */
+    public static void main(String[] args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            files.add(Path.of(arg));
+        }
+        System.out.println(new DuplicateFinder().findInFiles(files));
+    }
+
+    /**
+     * Reads map pack files and fingerprints every level in them
+     *
+     * @param files map set files ending .skb or level collections in the XSB format
+     * @return report of every level and the duplicates among them
+     * @throws IOException if a pack couldn't be read
+     */
+    public DuplicateReport findInFiles(List<Path> files) throws IOException {
+        List<Pack> packs = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.toLowerCase().endsWith(".skb")) {
+                MapSetIndex mapSet = MapSetIndex.open(file);
+                packs.add(new Pack(name, mapSet.getLevelCount(),
+                        mapSet::getLevelName, mapSet::getFingerprint));
+            } else {
+                List<Level> levels;
+                try (InputStream input = Files.newInputStream(file)) {
+                    levels = XsbImporter.readAll(input);
+                }
+                packs.add(Pack.of(name, levels));
+            }
+        }
+        return find(packs);
+    }
+
+    /**
+     * Fingerprints levels that have already been read
+     *
+     * @param collections the levels of each pack by pack name, not yet played
+     * @return report of every level and the duplicates among them
+     */
+    public DuplicateReport find(Map<String, List<Level>> collections) {
+        List<Pack> packs = new ArrayList<>();
+        for (Map.Entry<String, List<Level>> collection :
+                new LinkedHashMap<>(collections).entrySet()) {
+            packs.add(Pack.of(collection.getKey(), collection.getValue()));
+        }
+        return find(packs);
+    }
+
+    /**
+     * Fingerprints the levels of every pack as one range split across the pool
+     *
+     * @param packs the packs in report order
+     * @return report of every level and the duplicates among them
+     */
+    private DuplicateReport find(List<Pack> packs) {
+        long start = System.nanoTime();
+        int[] firstLevel = new int[packs.size() + 1];
+        for (int i = 0; i < packs.size(); i++) {
+            firstLevel[i + 1] = firstLevel[i] + packs.get(i).m_count;
+        }
+
+        DuplicateReport.Entry[] entries =
+                new DuplicateReport.Entry[firstLevel[packs.size()]];
+        m_pool.invoke(new MapSetIndex.PositionTask(position -> {
+            int pack = Arrays.binarySearch(firstLevel, position);
+            pack = pack >= 0 ? pack : -pack - 2;
+            while (packs.get(pack).m_count == 0) {
+                pack++;
+            }
+            Pack source = packs.get(pack);
+            int level = position - firstLevel[pack];
+            entries[position] = new DuplicateReport.Entry(source.m_name,
+                    level + 1, source.m_names.apply(level),
+                    source.m_fingerprints.apply(level));
+        }, 0, entries.length));
+        return new DuplicateReport(new ArrayList<>(Arrays.asList(entries)),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * The level names and fingerprints of one pack, by position from zero
+     */
+    private static final class Pack {
+
+        private final String m_name;
+        private final int m_count;
+        private final IntFunction<String> m_names;
+        private final IntFunction<LevelFingerprint> m_fingerprints;
+
+        /**
+         * Create pack
+         *
+         * @param name         the pack name
+         * @param count        the number of levels
+         * @param names        gives the name of the level at a position
+         * @param fingerprints gives the fingerprint of the level at a position
+         */
+        private Pack(String name, int count, IntFunction<String> names,
+                     IntFunction<LevelFingerprint> fingerprints) {
+            m_name = name;
+            m_count = count;
+            m_names = names;
+            m_fingerprints = fingerprints;
+        }
+
+        /**
+         * Create pack over levels that have already been read
+         *
+         * @param name   the pack name
+         * @param levels the levels in pack order
+         * @return new Pack
+         */
+        private static Pack of(String name, List<Level> levels) {
+            return new Pack(name, levels.size(),
+                    position -> levels.get(position).getName(),
+                    position -> LevelFingerprint.of(levels.get(position)));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.model.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fingerprints of every level in a set of map packs, grouped to find duplicates
+ *
+ * @author Zain Rashid
+ */
+public final class DuplicateReport {
+
+    private final List<Entry> m_entries;
+    private final List<List<Entry>> m_duplicates = new ArrayList<>();
+    private final long m_elapsedNanos;
+
+    /**
+     * Create report and group the levels that share a fingerprint
+     *
+     * @param entries      one entry per level in pack order
+     * @param elapsedNanos wall clock time of the fingerprinting in nanoseconds
+     */
+    DuplicateReport(List<Entry> entries, long elapsedNanos) {
+        m_entries = Collections.unmodifiableList(entries);
+        m_elapsedNanos = elapsedNanos;
+
+        Map<LevelFingerprint, List<Entry>> groups = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            groups.computeIfAbsent(entry.getFingerprint(),
+                    fingerprint -> new ArrayList<>(1)).add(entry);
+        }
+        for (List<Entry> group : groups.values()) {
+            if (group.size() > 1) {
+                m_duplicates.add(Collections.unmodifiableList(group));
+            }
+        }
+    }
+
+    /**
+     * Getter for entries
+     *
+     * @return every fingerprinted level in pack order
+     */
+    public List<Entry> getEntries() {
+        return m_entries;
+    }
+
+    /**
+     * Getter for the groups of levels that play the same
+     *
+     * @return groups of two or more entries, each in pack order
+     */
+    public List<List<Entry>> getDuplicates() {
+        return Collections.unmodifiableList(m_duplicates);
+    }
+
+    /**
+     * Getter for the wall clock time of the fingerprinting
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return m_elapsedNanos;
+    }
+
+    /**
+     * Getter for the report as one block per group of duplicates then a summary
+     *
+     * @return report in String form
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        int copies = 0;
+        for (List<Entry> group : m_duplicates) {
+            report.append(group.get(0).getFingerprint())
+                    .append(System.lineSeparator());
+            for (Entry entry : group) {
+                report.append("    ").append(entry)
+                        .append(System.lineSeparator());
+            }
+            copies += group.size() - 1;
+        }
+        report.append(String.format("%d levels, %d duplicate groups, %d " +
+                        "copies in %.3fms", m_entries.size(),
+                m_duplicates.size(), copies, m_elapsedNanos / 1e6));
+        return report.toString();
+    }
+
+    /**
+     * A fingerprinted level and where it was found
+     */
+    public static final class Entry {
+
+        private final String m_collection;
+        private final int m_index;
+        private final String m_levelName;
+        private final LevelFingerprint m_fingerprint;
+
+        /**
+         * Create entry
+         *
+         * @param collection  the name of the map pack the level is in
+         * @param index       the level index in the pack, from one
+         * @param levelName   the level name
+         * @param fingerprint the level fingerprint
+         */
+        Entry(String collection, int index, String levelName,
+              LevelFingerprint fingerprint) {
+            m_collection = collection;
+            m_index = index;
+            m_levelName = levelName;
+            m_fingerprint = fingerprint;
+        }
+
+        /**
+         * Getter for collection
+         *
+         * @return name of the map pack the level is in
+         */
+        public String getCollection() {
+            return m_collection;
+        }
+
+        /**
+         * Getter for index
+         *
+         * @return level index in the pack, from one
+         */
+        public int getIndex() {
+            return m_index;
+        }
+
+        /**
+         * Getter for level name
+         *
+         * @return current level name
+         */
+        public String getLevelName() {
+            return m_levelName;
+        }
+
+        /**
+         * Getter for fingerprint
+         *
+         * @return fingerprint of the level
+         */
+        public LevelFingerprint getFingerprint() {
+            return m_fingerprint;
+        }
+
+        @Override
+        public String toString() {
+            return m_collection + " #" + m_index + " " + m_levelName;
+        }
+    }
+}
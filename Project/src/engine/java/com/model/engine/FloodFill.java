@@ -0,0 +1,224 @@
+package com.model.engine;
+
+import java.util.Arrays;
+
+/**
+ * Word parallel flood fill over a row major bitset of cells
+ * Used for the region the keeper can walk to, 64 cells are spread per operation:
+ * runs along a row are filled with a carry trick and rows above and below are
+ * reached by shifting the whole bitset by one row
+ *
+ * @author Zain Rashid
+ */
+public final class FloodFill {
+
+    private final int m_columns;
+    private final int m_words;
+    private final long[] m_firstColumn;
+    private final long[] m_lastColumn;
+    private final long m_lastWord;
+
+    /**
+     * Create flood fill for a grid size
+     *
+     * @param columns   the number of columns, the stride between rows
+     * @param cellCount the number of cells
+     */
+    public FloodFill(int columns, int cellCount) {
+        m_columns = columns;
+        m_words = (cellCount + 63) >>> 6;
+        m_firstColumn = new long[m_words];
+        m_lastColumn = new long[m_words];
+        m_lastWord = (cellCount & 63) == 0 ? -1L :
+                -1L >>> (64 - (cellCount & 63));
+        for (int cell = 0; cell < cellCount; cell += columns) {
+            m_firstColumn[cell >>> 6] |= 1L << cell;
+            int last = cell + columns - 1;
+            if (last < cellCount) {
+                m_lastColumn[last >>> 6] |= 1L << last;
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of words in a bitset of this grid
+     *
+     * @return bitset length in longs
+     */
+    public int getWordCount() {
+        return m_words;
+    }
+
+    /**
+     * Checks whether a cell is set in a bitset
+     *
+     * @param bits  the bitset
+     * @param index the packed cell index
+     * @return true if the bit is set else false
+     */
+    public static boolean contains(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Fills the region reachable from a start cell through open cells
+     * Sweeps forward then backward over the words until nothing changes
+     *
+     * @param open   bitset of cells that can be walked onto
+     * @param start  the start cell, which need not be open itself
+     * @param region cleared then filled with the reached cells, start included
+     * @return the smallest reached cell, the canonical position of the region
+     */
+    public int fill(long[] open, int start, long[] region) {
+        Arrays.fill(region, 0);
+        region[start >>> 6] |= 1L << start;
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int word = 0; word < m_words; word++) {
+                while (expand(open, region, word)) {
+                    changed = true;
+                }
+            }
+            for (int word = m_words - 1; word >= 0; word--) {
+                while (expand(open, region, word)) {
+                    changed = true;
+                }
+            }
+        }
+
+        for (int word = 0; word < m_words; word++) {
+            if (region[word] != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(region[word]);
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Grows a set of cells by one cell in all eight directions
+     * Rows are spread sideways first, then the whole bitset is shifted a row each way
+     *
+     * @param bits   the cells to grow
+     * @param result filled with every cell in or next to the set
+     */
+    public void dilate(long[] bits, long[] result) {
+        long[] sideways = new long[m_words];
+        for (int word = 0; word < m_words; word++) {
+            long right = bits[word] << 1;
+            long left = bits[word] >>> 1;
+            if (word > 0) {
+                right |= bits[word - 1] >>> 63;
+            }
+            if (word < m_words - 1) {
+                left |= bits[word + 1] << 63;
+            }
+            sideways[word] = bits[word] | right & ~m_firstColumn[word] |
+                    left & ~m_lastColumn[word];
+        }
+        sideways[m_words - 1] &= m_lastWord;
+        for (int word = 0; word < m_words; word++) {
+            result[word] = sideways[word] | shiftUp(sideways, word) |
+                    shiftDown(sideways, word);
+        }
+    }
+
+    /**
+     * Grows one word of the region by its neighbours then fills the row runs it touches
+     *
+     * @param open   bitset of cells that can be walked onto
+     * @param region the region so far
+     * @param word   the word to grow
+     * @return true if the word gained cells else false
+     */
+    private boolean expand(long[] open, long[] region, int word) {
+        long rightOpen = open[word] & ~m_firstColumn[word];
+        long leftOpen = open[word] & ~m_lastColumn[word];
+        long cells = region[word];
+        long reached = cells | (shiftUp(region, word) |
+                shiftDown(region, word)) & open[word];
+        if (word > 0) {
+            reached |= (region[word - 1] >>> 63) & rightOpen;
+        }
+        if (word < m_words - 1) {
+            reached |= (region[word + 1] << 63) & leftOpen;
+        }
+        reached |= fillRight((reached << 1) & rightOpen, rightOpen);
+        reached |= fillLeft((reached >>> 1) & leftOpen, leftOpen);
+        if (reached == cells) {
+            return false;
+        }
+        region[word] = reached;
+        return true;
+    }
+
+    /**
+     * Spreads seeds towards higher bits through runs of open bits
+     * Adding the seeds to the open run carries through it, the changed bits are the run
+     * A later seed on a carrying run does not change, so the seeds are added back
+     *
+     * @param seeds the cells to spread from, all open
+     * @param open  the open cells of the word
+     * @return every open cell on a run to the right of a seed
+     */
+    private static long fillRight(long seeds, long open) {
+        return ((open + seeds) ^ open) & open | seeds;
+    }
+
+    /**
+     * Spreads seeds towards lower bits through runs of open bits
+     * Each step doubles the distance covered, six steps cross a whole word
+     *
+     * @param seeds the cells to spread from, all open
+     * @param open  the open cells of the word
+     * @return every open cell on a run to the left of a seed
+     */
+    private static long fillLeft(long seeds, long open) {
+        seeds |= open & (seeds >>> 1);
+        open &= open >>> 1;
+        seeds |= open & (seeds >>> 2);
+        open &= open >>> 2;
+        seeds |= open & (seeds >>> 4);
+        open &= open >>> 4;
+        seeds |= open & (seeds >>> 8);
+        open &= open >>> 8;
+        seeds |= open & (seeds >>> 16);
+        open &= open >>> 16;
+        return seeds | open & (seeds >>> 32);
+    }
+
+    /**
+     * Word of the bitset moved one row down, each cell taking the cell above it
+     *
+     * @param bits the bitset
+     * @param word the word to build
+     * @return cells whose upper neighbour is set
+     */
+    private long shiftUp(long[] bits, int word) {
+        int source = word - (m_columns >>> 6);
+        int shift = m_columns & 63;
+        long value = source >= 0 ? bits[source] << shift : 0;
+        if (shift != 0 && source > 0) {
+            value |= bits[source - 1] >>> (64 - shift);
+        }
+        return value;
+    }
+
+    /**
+     * Word of the bitset moved one row up, each cell taking the cell below it
+     *
+     * @param bits the bitset
+     * @param word the word to build
+     * @return cells whose lower neighbour is set
+     */
+    private long shiftDown(long[] bits, int word) {
+        int source = word + (m_columns >>> 6);
+        int shift = m_columns & 63;
+        long value = source < m_words ? bits[source] >>> shift : 0;
+        if (shift != 0 && source + 1 < m_words) {
+            value |= bits[source + 1] << (64 - shift);
+        }
+        return value;
+    }
+}
@@ -5,17 +5,23 @@ import java.util.Iterator;
 
 /**
  * Used to create a 2D grid and add gameObjects to it
+ * Cells are packed into one long[] bitset per GameObject type, indexed by
+ * x * rows + y, with the keeper held as a single int index
  *
  * @author Zain Rashid-modified
  */
 public class GameGrid implements Iterable {
 
+    private static final GameObject[] OBJECTS = GameObject.values();
+    private static final int NO_KEEPER = -1;
     private final int m_COLUMNS;
     private final int m_ROWS;
-    private final GameObject[][] m_gameObjects;
+    private final long[][] m_planes;
+    private int m_keeperIndex = NO_KEEPER;
 
     /**
      * Create grid using columns and rows to set the max size
+     * Bitsets are only allocated for the GameObject types that are put into the grid
      *
      * @param columns the number of columns
      * @param rows    the number of rows
@@ -24,7 +30,25 @@ public class GameGrid implements Iterable {
         m_COLUMNS = columns;
         m_ROWS = rows;
 
-        m_gameObjects = new GameObject[m_COLUMNS][m_ROWS];
+        m_planes = new long[OBJECTS.length][];
+    }
+
+    /**
+     * Create grid holding a copy of every object of another grid
+     *
+     * @param source the grid to copy
+     */
+    GameGrid(GameGrid source) {
+        m_COLUMNS = source.m_COLUMNS;
+        m_ROWS = source.m_ROWS;
+        m_keeperIndex = source.m_keeperIndex;
+
+        m_planes = new long[OBJECTS.length][];
+        for (int i = 0; i < m_planes.length; i++) {
+            if (source.m_planes[i] != null) {
+                m_planes[i] = source.m_planes[i].clone();
+            }
+        }
     }
 
     /**
@@ -40,6 +64,19 @@ public class GameGrid implements Iterable {
         return translatedPoint;
     }
 
+    /**
+     * Returns the cell index one step away from a cell in a direction
+     *
+     * @param index     the source cell index
+     * @param direction the direction code to step in
+     * @return the target cell index or -1 if the step leaves the grid
+     */
+    public int translateIndex(int index, byte direction) {
+        int x = index / m_ROWS + Direction.rowDelta(direction);
+        int y = index % m_ROWS + Direction.columnDelta(direction);
+        return isPointOutOfBounds(x, y) ? -1 : indexOf(x, y);
+    }
+
     /**
      * Getter for gameGrid columns
      *
@@ -58,6 +95,61 @@ public class GameGrid implements Iterable {
         return m_ROWS;
     }
 
+    /**
+     * Getter for the number of cells in the grid
+     *
+     * @return columns multiplied by rows
+     */
+    public int getCellCount() {
+        return m_COLUMNS * m_ROWS;
+    }
+
+    /**
+     * Converts an (x, y) position into its packed cell index
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the cell index used by the bitsets
+     */
+    public int indexOf(int x, int y) {
+        return x * m_ROWS + y;
+    }
+
+    /**
+     * Getter for the index of the keeper cell
+     *
+     * @return keeper cell index or -1 if no keeper has been put into the grid
+     */
+    public int getKeeperIndex() {
+        return m_keeperIndex;
+    }
+
+    /**
+     * Getter for the bitset holding every cell of one GameObject type
+     * The bitset is shared with the grid so callers must only read from it
+     *
+     * @param gameObject the GameObject type
+     * @return bitset with one bit per cell, allocated empty if the type is not in the grid
+     */
+    long[] getPlane(GameObject gameObject) {
+        return plane(gameObject.ordinal());
+    }
+
+    /**
+     * Checks whether a cell holds a certain GameObject type
+     *
+     * @param gameObject the GameObject type
+     * @param index      the packed cell index
+     * @return true if the cell holds that type else false
+     */
+    boolean isAt(GameObject gameObject, int index) {
+        if (gameObject == GameObject.KEEPER) {
+            return index == m_keeperIndex;
+        }
+        long[] plane = m_planes[gameObject.ordinal()];
+        return plane != null && (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
     /**
      * Returns the size of this grid as a dimension.
      *
@@ -91,16 +183,64 @@ public class GameGrid implements Iterable {
     public GameObject getGameObjectAt(int col, int row)
             throws ArrayIndexOutOfBoundsException {
 
+        checkBounds(col, row);
+        return getGameObjectAt(indexOf(col, row));
+    }
+
+    /**
+     * Getter for the cell index of a point, checking that it lies inside the grid
+     *
+     * @param p the point to be converted
+     * @return the packed cell index
+     * @throws ArrayIndexOutOfBoundsException if the point is outside the grid bounds
+     */
+    public int checkedIndexOf(Point p) throws ArrayIndexOutOfBoundsException {
+        if (p == null) {
+            throw new IllegalArgumentException("Point cannot be null.");
+        }
+
+        checkBounds(p.x, p.y);
+        return indexOf(p.x, p.y);
+    }
+
+    /**
+     * Throws if a point is outside the grid
+     *
+     * @param col the x coordinate of the point
+     * @param row the y coordinate of the point
+     * @throws ArrayIndexOutOfBoundsException if the coordinates are outside the grid bounds
+     */
+    private void checkBounds(int col, int row)
+            throws ArrayIndexOutOfBoundsException {
         if (isPointOutOfBounds(col, row)) {
-            if (GameModel.isDebugActive()) {
+            if (Level.isDebugActive()) {
                 System.out.printf("Trying to get null " +
                         "GameObject from COL: %d  ROW: %d", col, row);
             }
             throw new ArrayIndexOutOfBoundsException
                     ("The point [" + col + ":" + row + "] is outside the map.");
         }
+    }
+
+    /**
+     * Gets the GameObject stored at a packed cell index
+     *
+     * @param index the packed cell index
+     * @return GameObject or null if nothing has been put there
+     */
+    GameObject getGameObjectAt(int index) {
+        if (index == m_keeperIndex) {
+            return GameObject.KEEPER;
+        }
+        int word = index >>> 6;
+        long bit = 1L << index;
 
-        return m_gameObjects[col][row];
+        for (int i = 0; i < m_planes.length; i++) {
+            if (m_planes[i] != null && (m_planes[i][word] & bit) != 0) {
+                return OBJECTS[i];
+            }
+        }
+        return null;
     }
 
     /**
@@ -153,8 +293,48 @@ public class GameGrid implements Iterable {
             return false;
         }
 
-        m_gameObjects[x][y] = gameObject;
-        return m_gameObjects[x][y] == gameObject;
+        putGameObjectAt(gameObject, indexOf(x, y));
+        return getGameObjectAt(x, y) == gameObject;
+    }
+
+    /**
+     * Puts a game object into a packed cell index, clearing whatever was there
+     * A grid holds a single keeper so putting a keeper moves it from its old cell
+     *
+     * @param gameObject the gameObject to be put into the grid or null to clear the cell
+     * @param index      the packed cell index
+     */
+    void putGameObjectAt(GameObject gameObject, int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+
+        for (long[] plane : m_planes) {
+            if (plane != null) {
+                plane[word] &= ~bit;
+            }
+        }
+        if (index == m_keeperIndex) {
+            m_keeperIndex = NO_KEEPER;
+        }
+
+        if (gameObject == GameObject.KEEPER) {
+            m_keeperIndex = index;
+        } else if (gameObject != null) {
+            plane(gameObject.ordinal())[word] |= bit;
+        }
+    }
+
+    /**
+     * Gets the bitset for a GameObject ordinal, allocating it on first use
+     *
+     * @param ordinal the GameObject ordinal
+     * @return bitset with one bit per cell
+     */
+    private long[] plane(int ordinal) {
+        if (m_planes[ordinal] == null) {
+            m_planes[ordinal] = new long[(getCellCount() + 63) >>> 6];
+        }
+        return m_planes[ordinal];
     }
 
     /**
@@ -194,10 +374,11 @@ public class GameGrid implements Iterable {
 
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder(m_gameObjects.length);
+        StringBuilder sb = new StringBuilder(m_COLUMNS);
 
-        for (GameObject[] gameObject : m_gameObjects) {
-            for (GameObject aGameObject : gameObject) {
+        for (int x = 0; x < m_COLUMNS; x++) {
+            for (int y = 0; y < m_ROWS; y++) {
+                GameObject aGameObject = getGameObjectAt(indexOf(x, y));
                 if (aGameObject == null) {
                     aGameObject = GameObject.DEBUG_OBJECT;
                 }
@@ -0,0 +1,344 @@
+package com.model.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the state of a single game so many games can run in one process
+ * Covers the loaded map set, the current level and the move, time and user counters
+ *
+ * @author Zain Rashid
+ */
+public class GameSession {
+
+    private final List<String> m_levelNameList = new ArrayList<>();
+    private final List<String> m_leaderboard = new ArrayList<>();
+    private final MoveLog m_moveLog = new MoveLog();
+    private final MoveLog m_completedMoveLog = new MoveLog();
+    private final UndoHistory m_undoHistory = new UndoHistory();
+    private List<Level> m_levels = new ArrayList<>();
+    private volatile ValidationReport m_validationReport;
+    private MapSetIndex m_mapSet;
+    private Level m_currentLevel;
+    private String m_mapSetName;
+    private String m_username;
+    private int m_moveCount;
+    private int m_totalGameMoveCount;
+    private int m_timeCount;
+    private byte m_lastDirection = Direction.NONE;
+    private boolean m_moveComplete = false;
+
+    /**
+     * Getter for the levels of the loaded map set
+     *
+     * @return current list of levels
+     */
+    public List<Level> getLevels() {
+        return m_levels;
+    }
+
+    /**
+     * Setter for the levels of the loaded map set
+     *
+     * @param levels overwrite current list of levels
+     */
+    public void setLevels(List<Level> levels) {
+        this.m_levels = levels;
+    }
+
+    /**
+     * Getter for the validation of the loaded map set
+     *
+     * @return current ValidationReport or null until the map set has been validated
+     */
+    public ValidationReport getValidationReport() {
+        return m_validationReport;
+    }
+
+    /**
+     * Setter for the validation of the loaded map set
+     *
+     * @param validationReport overwrite current validation report
+     */
+    public void setValidationReport(ValidationReport validationReport) {
+        m_validationReport = validationReport;
+    }
+
+    /**
+     * Getter for level name list
+     *
+     * @return current level names in map set order
+     */
+    public List<String> getLevelNameList() {
+        return m_levelNameList;
+    }
+
+    /**
+     * Getter for the leaderboard rows of the level last completed
+     *
+     * @return current leaderboard rows, the heading first
+     */
+    public List<String> getLeaderboard() {
+        return m_leaderboard;
+    }
+
+    /**
+     * Getter for the index of the loaded map set file, used to save the remaining levels
+     *
+     * @return current MapSetIndex or null before a map set is loaded
+     */
+    public MapSetIndex getMapSet() {
+        return m_mapSet;
+    }
+
+    /**
+     * Setter for the index of the loaded map set file
+     *
+     * @param mapSet overwrite current map set index
+     */
+    public void setMapSet(MapSetIndex mapSet) {
+        m_mapSet = mapSet;
+    }
+
+    /**
+     * Getter for the map set name
+     *
+     * @return current map set name in String form
+     */
+    public String getMapSetName() {
+        return m_mapSetName;
+    }
+
+    /**
+     * Setter for the map set name
+     *
+     * @param mapSetName overwrite current map set name
+     */
+    public void setMapSetName(String mapSetName) {
+        this.m_mapSetName = mapSetName;
+    }
+
+    /**
+     * Getter for username
+     *
+     * @return current username in String form
+     */
+    public String getUsername() {
+        return m_username;
+    }
+
+    /**
+     * Setter for username
+     *
+     * @param username overwrite current username
+     */
+    public void setUsername(String username) {
+        this.m_username = username;
+    }
+
+    /**
+     * Getter for the current level
+     *
+     * @return current value for current level
+     */
+    public Level getCurrentLevel() {
+        return m_currentLevel;
+    }
+
+    /**
+     * Setter for the current level
+     * Starts a new move log and undo history when the level changes
+     *
+     * @param currentLevel overwrite current value for current level
+     */
+    public void setCurrentLevel(Level currentLevel) {
+        if (currentLevel != m_currentLevel) {
+            m_moveLog.clear();
+            m_undoHistory.clear();
+        }
+        this.m_currentLevel = currentLevel;
+    }
+
+    /**
+     * Moves the keeper in the current level, counting and logging the move if it happened
+     *
+     * @param direction the direction code to move in
+     * @return BLOCKED, MOVED or PUSHED
+     */
+    public byte move(byte direction) {
+        byte result = m_currentLevel.move(direction);
+        if (result != Level.BLOCKED) {
+            m_moveComplete = true;
+            m_moveCount++;
+            m_moveLog.record(direction, result == Level.PUSHED);
+            m_undoHistory.record(direction, result == Level.PUSHED);
+        }
+        return result;
+    }
+
+    /**
+     * Reverses the last move in the current level
+     *
+     * @return true if a move was undone else false
+     */
+    public boolean undo() {
+        if (m_currentLevel == null || !m_undoHistory.undo(m_currentLevel)) {
+            return false;
+        }
+        m_moveCount--;
+        m_moveLog.truncate(m_moveLog.size() - 1);
+        return true;
+    }
+
+    /**
+     * Plays the last undone move again in the current level
+     *
+     * @return true if a move was redone else false
+     */
+    public boolean redo() {
+        if (m_currentLevel == null) {
+            return false;
+        }
+        byte direction = m_undoHistory.peekRedoDirection();
+        byte result = m_undoHistory.redo(m_currentLevel);
+        if (result == Level.BLOCKED) {
+            return false;
+        }
+        m_moveCount++;
+        m_moveLog.record(direction, result == Level.PUSHED);
+        return true;
+    }
+
+    /**
+     * Getter for the undo and redo history of the current level
+     *
+     * @return current UndoHistory instance
+     */
+    public UndoHistory getUndoHistory() {
+        return m_undoHistory;
+    }
+
+    /**
+     * Keeps the move log of the current level once it has been completed
+     */
+    public void completeLevel() {
+        m_completedMoveLog.copyFrom(m_moveLog);
+    }
+
+    /**
+     * Getter for the moves made in the current level
+     *
+     * @return current level move log
+     */
+    public MoveLog getMoveLog() {
+        return m_moveLog;
+    }
+
+    /**
+     * Getter for the moves that completed the last finished level
+     *
+     * @return completed level move log
+     */
+    public MoveLog getCompletedMoveLog() {
+        return m_completedMoveLog;
+    }
+
+    /**
+     * Getter for level moves
+     *
+     * @return current level moves in Integer form
+     */
+    public int getMoveCount() {
+        return m_moveCount;
+    }
+
+    /**
+     * Setter for level move count
+     *
+     * @param moveCount overwrite current level move count
+     */
+    public void setMoveCount(int moveCount) {
+        this.m_moveCount = moveCount;
+    }
+
+    /**
+     * States whether a move has been completed or not
+     *
+     * @return true if move complete else false
+     */
+    public boolean isMoveComplete() {
+        return m_moveComplete;
+    }
+
+    /**
+     * Getter for the direction of the last key pressed
+     *
+     * @return direction code or NONE if no key has been pressed
+     */
+    public byte getLastDirection() {
+        return m_lastDirection;
+    }
+
+    /**
+     * Setter for the direction of the last key pressed
+     *
+     * @param lastDirection overwrite current last direction
+     */
+    public void setLastDirection(byte lastDirection) {
+        this.m_lastDirection = lastDirection;
+    }
+
+    /**
+     * Getter for total moves in the game so far
+     *
+     * @return current total move count in Integer form
+     */
+    public int getTotalGameMoveCount() {
+        return m_totalGameMoveCount;
+    }
+
+    /**
+     * Setter for total moves in the game so far
+     *
+     * @param totalGameMoveCount overwrite current total move count
+     */
+    public void setTotalGameMoveCount(int totalGameMoveCount) {
+        this.m_totalGameMoveCount = totalGameMoveCount;
+    }
+
+    /**
+     * Adds the moves of a finished level to the total game moves
+     *
+     * @param levelMoveCount the move count of the finished level
+     */
+    public void calcTotalGameMoveCount(int levelMoveCount) {
+        m_totalGameMoveCount += levelMoveCount;
+    }
+
+    /**
+     * Getter for current time in milliseconds
+     *
+     * @return time as Integer
+     */
+    public int getTimeCount() {
+        return m_timeCount;
+    }
+
+    /**
+     * Setter for time
+     *
+     * @param timeCount overwrite current time count
+     */
+    public void setTimeCount(int timeCount) {
+        this.m_timeCount = timeCount;
+    }
+
+    /**
+     * Adds elapsed milliseconds to the time count
+     *
+     * @param millis the milliseconds to add
+     */
+    public void addTime(int millis) {
+        m_timeCount += millis;
+    }
+}
@@ -0,0 +1,774 @@
+package com.model.engine;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import static com.model.engine.GameGrid.translatePoint;
+
+/**
+ * Handles creation of game level taking in level name, level index and level grid
+ * and putting it in a 2D array
+ *
+ * @author Zain Rashid-modified
+ */
+public final class Level implements Iterable<GameObject> {
+
+    /**
+     * Move result when the keeper could not move
+     */
+    public static final byte BLOCKED = 0;
+    /**
+     * Move result when the keeper walked onto floor
+     */
+    public static final byte MOVED = 1;
+    /**
+     * Move result when the keeper pushed a crate
+     */
+    public static final byte PUSHED = 2;
+
+    private static final int CHANGE_LIMIT = 64;
+    private static boolean m_debug = false;
+    private final String m_name;
+    private final GameGrid m_objectsGrid;
+    private final GameGrid m_diamondsGrid;
+    private final int m_index;
+    private int m_numberOfDiamonds = 0;
+    private int m_cratedDiamondsCount = 0;
+    private final int m_columns;
+    private long m_hash = 0;
+    private int m_normalizedKeeper = -1;
+    private boolean m_keeperRegionDirty = true;
+    private long[] m_keeperRegion;
+    private FloodFill m_floodFill;
+    private final DeadlockDetector m_deadlocks;
+    private final IntPredicate m_isCrate = this::isCrateAt;
+    private boolean m_deadlocked;
+    private final int[] m_changedCells = new int[CHANGE_LIMIT];
+    private int m_changedCount = 0;
+
+    /**
+     * Create level using parameters
+     *
+     * @param levelName  the name of the level
+     * @param levelIndex the number used as index for the levels
+     * @param raw_level  the raw data of the level
+     */
+    public Level(String levelName, int levelIndex, List<String> raw_level) {
+        this(levelName, levelIndex, readGrids(raw_level));
+    }
+
+    /**
+     * Create level from the pair of grids read from the raw data
+     *
+     * @param levelName  the name of the level
+     * @param levelIndex the number used as index for the levels
+     * @param grids      the objects grid then the diamonds grid
+     */
+    private Level(String levelName, int levelIndex, GameGrid[] grids) {
+        this(levelName, levelIndex, grids[0], grids[1]);
+    }
+
+    /**
+     * Create level from grids that have already been filled
+     * Both grids are laid out rows by columns, as readGrids builds them
+     *
+     * @param levelName    the name of the level
+     * @param levelIndex   the number used as index for the levels
+     * @param objectsGrid  the walls, floor, crates and keeper
+     * @param diamondsGrid the diamonds
+     */
+    Level(String levelName, int levelIndex, GameGrid objectsGrid,
+          GameGrid diamondsGrid) {
+        if (isDebugActive()) {
+            System.out.printf("[ADDING LEVEL] LEVEL [%d]: %s\n",
+                    levelIndex, levelName);
+        }
+
+        m_name = levelName;
+        m_index = levelIndex;
+        m_columns = objectsGrid.getROWS();
+        m_objectsGrid = objectsGrid;
+        m_diamondsGrid = diamondsGrid;
+
+        clearExcessWalls();
+
+        long[] diamonds = m_diamondsGrid.getPlane(GameObject.DIAMOND);
+        long[] crates = m_objectsGrid.getPlane(GameObject.CRATE);
+        for (int word = 0; word < diamonds.length; word++) {
+            m_numberOfDiamonds += Long.bitCount(diamonds[word]);
+            m_cratedDiamondsCount += Long.bitCount(diamonds[word] &
+                    crates[word]);
+            for (long bits = crates[word]; bits != 0; bits &= bits - 1) {
+                m_hash ^= Zobrist.crateKey((word << 6) +
+                        Long.numberOfTrailingZeros(bits));
+            }
+        }
+
+        m_deadlocks = new DeadlockDetector(this);
+        m_deadlocked = findDeadlock();
+    }
+
+    /**
+     * Create level holding a copy of the current state of another level
+     *
+     * @param source the level to copy
+     */
+    private Level(Level source) {
+        m_name = source.m_name;
+        m_index = source.m_index;
+        m_columns = source.m_columns;
+        m_objectsGrid = new GameGrid(source.m_objectsGrid);
+        m_diamondsGrid = new GameGrid(source.m_diamondsGrid);
+        m_numberOfDiamonds = source.m_numberOfDiamonds;
+        m_cratedDiamondsCount = source.m_cratedDiamondsCount;
+        m_hash = source.m_hash;
+        m_normalizedKeeper = source.m_normalizedKeeper;
+        m_keeperRegionDirty = true;
+        if (m_normalizedKeeper >= 0) {
+            m_hash ^= Zobrist.keeperKey(m_normalizedKeeper);
+            m_normalizedKeeper = -1;
+        }
+        m_deadlocks = new DeadlockDetector(this);
+        m_deadlocked = source.m_deadlocked;
+    }
+
+    /**
+     * Copies the level so another thread can read it while this one keeps changing
+     *
+     * @return a new Level in the same state
+     */
+    public Level copy() {
+        return new Level(this);
+    }
+
+    /**
+     * Reads the raw data of a level into an objects grid and a diamonds grid
+     * Rows wider than the first row are cut to its width
+     *
+     * @param raw_level the raw data of the level
+     * @return the objects grid then the diamonds grid
+     */
+    private static GameGrid[] readGrids(List<String> raw_level) {
+        int rows = raw_level.size();
+        int columns = raw_level.get(0).trim().length();
+        GameGrid objectsGrid = new GameGrid(rows, columns);
+        GameGrid diamondsGrid = new GameGrid(rows, columns);
+
+        for (int row = 0; row < raw_level.size(); row++) {
+
+            for (int col = 0; col < raw_level.get(row).length(); col++) {
+
+                GameObject curTile = GameObject.fromChar
+                        (raw_level.get(row).charAt(col));
+
+                if (curTile == GameObject.DIAMOND) {
+                    diamondsGrid.putGameObjectAt(curTile, row, col);
+                    curTile = GameObject.FLOOR;
+                } else if (curTile == GameObject.CRATE_ON_DIAMOND) {
+                    curTile = GameObject.DIAMOND;
+                    diamondsGrid.putGameObjectAt(curTile, row, col);
+                    curTile = GameObject.CRATE;
+                }
+
+                objectsGrid.putGameObjectAt(curTile, row, col);
+            }
+        }
+        return new GameGrid[]{objectsGrid, diamondsGrid};
+    }
+
+    /**
+     * Getter for debug boolean
+     * Kept in the engine so debug output works without the JavaFX game model
+     *
+     * @return true if debug active else false
+     */
+    public static boolean isDebugActive() {
+        return m_debug;
+    }
+
+    /**
+     * Setter for debug boolean
+     *
+     * @param m_debug overwrite current debug value
+     */
+    public static void setDebug(boolean m_debug) {
+        Level.m_debug = m_debug;
+    }
+
+    /**
+     * Getter for objects grid
+     *
+     * @return current objects Grid in String form
+     */
+    @Override
+    public String toString() {
+        return m_objectsGrid.toString();
+    }
+
+    /**
+     * Getter for diamonds grid
+     *
+     * @return current diamonds grid
+     */
+    public GameGrid getDiamondsGrid() {
+        return m_diamondsGrid;
+    }
+
+    /**
+     * Getter for current level name
+     *
+     * @return current level name
+     */
+    public String getName() {
+        return m_name;
+    }
+
+    /**
+     * Getter for level index
+     *
+     * @return current level index
+     */
+    public int getIndex() {
+        return m_index;
+    }
+
+    /**
+     * Getter for keeper position
+     * Built from the keeper cell index so moving the returned point does not move the keeper
+     *
+     * @return current keeper position
+     */
+    public Point getKeeperPosition() {
+        int keeperIndex = m_objectsGrid.getKeeperIndex();
+        if (keeperIndex < 0) {
+            return new Point(0, 0);
+        }
+        return new Point(keeperIndex / m_objectsGrid.getROWS(),
+                keeperIndex % m_objectsGrid.getROWS());
+    }
+
+    /**
+     * Getter for the keeper cell index
+     *
+     * @return current keeper cell index or -1 if the level has no keeper
+     */
+    public int getKeeperIndex() {
+        return m_objectsGrid.getKeeperIndex();
+    }
+
+    /**
+     * Getter for the number of columns, the stride between rows of cell indices
+     *
+     * @return current column count
+     */
+    public int getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * Getter for the number of cells in the level
+     *
+     * @return current cell count
+     */
+    public int getCellCount() {
+        return m_objectsGrid.getCellCount();
+    }
+
+    /**
+     * Checks whether the keeper or a crate could ever stand on a cell
+     *
+     * @param index the packed cell index
+     * @return true if the cell is floor, a crate or the keeper else false
+     */
+    public boolean isWalkableAt(int index) {
+        return m_objectsGrid.isAt(GameObject.FLOOR, index) ||
+                m_objectsGrid.isAt(GameObject.CRATE, index) ||
+                m_objectsGrid.isAt(GameObject.KEEPER, index);
+    }
+
+    /**
+     * Checks whether a crate is on a cell
+     *
+     * @param index the packed cell index
+     * @return true if a crate is on the cell else false
+     */
+    public boolean isCrateAt(int index) {
+        return m_objectsGrid.isAt(GameObject.CRATE, index);
+    }
+
+    /**
+     * Checks whether a cell is a diamond
+     *
+     * @param index the packed cell index
+     * @return true if the cell is a diamond else false
+     */
+    public boolean isDiamondAt(int index) {
+        return m_diamondsGrid.isAt(GameObject.DIAMOND, index);
+    }
+
+    /**
+     * Getter for target object
+     *
+     * @param source the source point
+     * @param delta  the distance from the source point
+     * @return the object at distance delta from source
+     */
+    public GameObject getTargetObject(Point source, Point delta) {
+        return m_objectsGrid.getTargetFromSource(source, delta);
+    }
+
+    /**
+     * Getter for object at point p of the objects grid.
+     *
+     * @param p the point where is object is located
+     * @return GameObject the objected located at point p.
+     */
+    public GameObject getObjectAt(Point p) {
+        return m_objectsGrid.getGameObjectAt(p);
+    }
+
+    /**
+     * Getter for iterator over elements of.
+     *
+     * @return level iterator.
+     */
+    @Override
+    public Iterator<GameObject> iterator() {
+        return new LevelIterator();
+    }
+
+    /**
+     * Returns whether iterated position is valid or not
+     *
+     * @param a rows
+     * @param b columns
+     * @return true if valid else false
+     */
+    boolean isValid(int a, int b) {
+        return a >= 0 && a < m_objectsGrid.getCOLUMNS() && b >= 0 && b <
+                m_objectsGrid.getROWS();
+    }
+
+    /**
+     * Iterate through grid and set excess walls to blank spaces
+     *
+     * @param row x point on grid
+     * @param col y point on grid
+     * @return true if excess wall else false
+     */
+    public boolean countSurrounding(int row, int col) {
+        boolean isEmpty = true;
+
+        for (int a = row - 1; a < row + 2; a++) {
+
+            for (int b = col - 1; b < col + 2; b++) {
+                if (isValid(a, b) && (m_objectsGrid.getGameObjectAt(a, b) !=
+                        GameObject.WALL
+                        && m_objectsGrid.getGameObjectAt(a, b) !=
+                        GameObject.EMPTY)) {
+                    isEmpty = false;
+                }
+
+            }
+        }
+        return isEmpty;
+    }
+
+    /**
+     * Sets every wall with no floor, crate, diamond or keeper around it to a blank space
+     * Same result as countSurrounding on every cell, done by dilating the bitset of
+     * cells that are not walls instead of checking nine cells per cell
+     */
+    private void clearExcessWalls() {
+        int cellCount = m_objectsGrid.getCellCount();
+        m_floodFill = new FloodFill(m_columns, cellCount);
+        long[] walls = m_objectsGrid.getPlane(GameObject.WALL);
+        long[] near = new long[walls.length];
+        for (int word = 0; word < walls.length; word++) {
+            near[word] = ~walls[word];
+        }
+        m_floodFill.dilate(near, near);
+        for (int word = 0; word < walls.length; word++) {
+            for (long bits = walls[word] & ~near[word]; bits != 0;
+                 bits &= bits - 1) {
+                m_objectsGrid.putGameObjectAt(GameObject.EMPTY, (word << 6) +
+                        Long.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+
+    /**
+     * Compares the live count of crates on diamonds against the number of diamonds
+     *
+     * @return true if all crates on diamonds else false
+     */
+    public boolean isComplete() {
+        return m_cratedDiamondsCount >= m_numberOfDiamonds;
+    }
+
+    /**
+     * Getter for whether the level can no longer be completed
+     * Kept up to date by move and undoMove so asking costs nothing
+     *
+     * @return true if a crate is on a dead square or frozen off a diamond else false
+     */
+    public boolean isDeadlocked() {
+        return m_deadlocked;
+    }
+
+    /**
+     * Checks whether a crate on a cell could never reach a diamond
+     *
+     * @param index the packed cell index
+     * @return true if the cell is a dead square else false
+     */
+    public boolean isDeadSquare(int index) {
+        return m_deadlocks.isDeadSquare(index);
+    }
+
+    /**
+     * Checks every crate for a deadlock, used when crates move backwards
+     *
+     * @return true if any crate is deadlocked else false
+     */
+    private boolean findDeadlock() {
+        long[] crates = m_objectsGrid.getPlane(GameObject.CRATE);
+        for (int word = 0; word < crates.length; word++) {
+            for (long bits = crates[word]; bits != 0; bits &= bits - 1) {
+                if (m_deadlocks.isDeadlockAt((word << 6) +
+                        Long.numberOfTrailingZeros(bits), m_isCrate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter for the number of crates currently sitting on diamonds
+     *
+     * @return crated diamonds count
+     */
+    public int getCratedDiamondsCount() {
+        return m_cratedDiamondsCount;
+    }
+
+    /**
+     * Checks whether a cell holds a crate on a diamond
+     *
+     * @param index the packed cell index
+     * @return 1 if a crate is on a diamond at the cell else 0
+     */
+    private int cratedDiamondAt(int index) {
+        return m_objectsGrid.isAt(GameObject.CRATE, index) &&
+                m_diamondsGrid.isAt(GameObject.DIAMOND, index) ? 1 : 0;
+    }
+
+    /**
+     * Getter for the Zobrist hash of the crate layout and normalized keeper
+     * Two states hash equally when their crates match and their keepers share a region
+     *
+     * @return 64-bit state hash
+     */
+    public long getHash() {
+        if (m_keeperRegionDirty) {
+            if (m_normalizedKeeper >= 0) {
+                m_hash ^= Zobrist.keeperKey(m_normalizedKeeper);
+            }
+            m_normalizedKeeper = fillKeeperRegion();
+            if (m_normalizedKeeper >= 0) {
+                m_hash ^= Zobrist.keeperKey(m_normalizedKeeper);
+            }
+            m_keeperRegionDirty = false;
+        }
+        return m_hash;
+    }
+
+    /**
+     * Getter for the smallest cell index the keeper can walk to
+     *
+     * @return normalized keeper index or -1 if the level has no keeper
+     */
+    public int getNormalizedKeeperIndex() {
+        getHash();
+        return m_normalizedKeeper;
+    }
+
+    /**
+     * Flood fills the cells the keeper can reach without pushing a crate
+     *
+     * @return the smallest reachable cell index or -1 if there is no keeper
+     */
+    private int fillKeeperRegion() {
+        int keeperIndex = m_objectsGrid.getKeeperIndex();
+        if (m_keeperRegion == null) {
+            if (m_floodFill == null) {
+                m_floodFill = new FloodFill(m_columns,
+                        m_objectsGrid.getCellCount());
+            }
+            m_keeperRegion = new long[m_floodFill.getWordCount()];
+        }
+        if (keeperIndex < 0) {
+            Arrays.fill(m_keeperRegion, 0);
+            return -1;
+        }
+        return m_floodFill.fill(m_objectsGrid.getPlane(GameObject.FLOOR),
+                keeperIndex, m_keeperRegion);
+    }
+
+    /**
+     * Checks whether the keeper can walk to a cell without pushing a crate
+     *
+     * @param index the packed cell index
+     * @return true if the cell is in the keeper region else false
+     */
+    public boolean isKeeperReachable(int index) {
+        getHash();
+        return index >= 0 && index < m_objectsGrid.getCellCount() &&
+                FloodFill.contains(m_keeperRegion, index);
+    }
+
+    /**
+     * Getter for the crate key at a cell
+     *
+     * @param index the packed cell index
+     * @return the Zobrist crate key if a crate is at the cell else 0
+     */
+    private long crateKeyAt(int index) {
+        return m_objectsGrid.isAt(GameObject.CRATE, index) ?
+                Zobrist.crateKey(index) : 0;
+    }
+
+    /**
+     * Getter for what is shown on a cell, a crate or floor on a diamond included
+     *
+     * @param index the packed cell index
+     * @return the object to draw at the cell
+     */
+    public GameObject getTileAt(int index) {
+        GameObject object = m_objectsGrid.getGameObjectAt(index);
+        if (m_diamondsGrid.isAt(GameObject.DIAMOND, index)) {
+            if (object == GameObject.CRATE) {
+                return GameObject.CRATE_ON_DIAMOND;
+            } else if (object == GameObject.FLOOR) {
+                return GameObject.DIAMOND;
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Passes every cell changed by a move since the last call to an action
+     * Only the last few dozen changes are kept, so a renderer that falls further behind
+     * is told to redraw the whole level instead
+     *
+     * @param action takes the packed index of a changed cell, may be given a cell twice
+     * @return true if every changed cell was passed, false if the level must be redrawn
+     */
+    public boolean drainChangedCells(IntConsumer action) {
+        boolean complete = m_changedCount <= CHANGE_LIMIT;
+        if (complete) {
+            for (int i = 0; i < m_changedCount; i++) {
+                action.accept(m_changedCells[i]);
+            }
+        }
+        m_changedCount = 0;
+        return complete;
+    }
+
+    /**
+     * Records a changed cell for drainChangedCells, counting on once the record is full
+     *
+     * @param index the packed cell index
+     */
+    private void markChanged(int index) {
+        if (m_changedCount < CHANGE_LIMIT) {
+            m_changedCells[m_changedCount] = index;
+        }
+        if (m_changedCount <= CHANGE_LIMIT) {
+            m_changedCount++;
+        }
+    }
+
+    /**
+     * Moves the keeper one step, pushing a crate if one is in the way
+     * Works on cell indices only so no objects are allocated
+     *
+     * @param direction the direction code to move in
+     * @return BLOCKED, MOVED or PUSHED
+     */
+    public byte move(byte direction) {
+        int keeperIndex = m_objectsGrid.getKeeperIndex();
+        int target = keeperIndex < 0 ? -1 :
+                m_objectsGrid.translateIndex(keeperIndex, direction);
+        if (target < 0) {
+            return BLOCKED;
+        }
+
+        if (m_objectsGrid.isAt(GameObject.CRATE, target)) {
+            int crateTarget = m_objectsGrid.translateIndex(target, direction);
+            if (crateTarget < 0 ||
+                    !m_objectsGrid.isAt(GameObject.FLOOR, crateTarget)) {
+                return BLOCKED;
+            }
+            moveGameObjectTo(GameObject.CRATE, target, crateTarget);
+            moveGameObjectTo(GameObject.KEEPER, keeperIndex, target);
+            m_deadlocked |= m_deadlocks.isDeadlockAt(crateTarget, m_isCrate);
+            return PUSHED;
+        }
+
+        if (m_objectsGrid.isAt(GameObject.FLOOR, target)) {
+            moveGameObjectTo(GameObject.KEEPER, keeperIndex, target);
+            return MOVED;
+        }
+        return BLOCKED;
+    }
+
+    /**
+     * Reverses a move made with move, pulling the crate back if it was pushed
+     *
+     * @param direction the direction code the move was made in
+     * @param pushed    whether the move pushed a crate
+     * @return true if the move was reversed else false
+     */
+    public boolean undoMove(byte direction, boolean pushed) {
+        int keeperIndex = m_objectsGrid.getKeeperIndex();
+        int previous = keeperIndex < 0 ? -1 : m_objectsGrid.translateIndex
+                (keeperIndex, Direction.opposite(direction));
+        if (previous < 0 || !m_objectsGrid.isAt(GameObject.FLOOR, previous)) {
+            return false;
+        }
+
+        int crateIndex = -1;
+        if (pushed) {
+            crateIndex = m_objectsGrid.translateIndex(keeperIndex, direction);
+            if (crateIndex < 0 ||
+                    !m_objectsGrid.isAt(GameObject.CRATE, crateIndex)) {
+                return false;
+            }
+        }
+
+        moveGameObjectTo(GameObject.KEEPER, keeperIndex, previous);
+        if (pushed) {
+            moveGameObjectTo(GameObject.CRATE, crateIndex, keeperIndex);
+            m_deadlocked = m_deadlocked && findDeadlock();
+        }
+        return true;
+    }
+
+    public void moveGameObjectBy(GameObject object, Point source, Point delta) {
+        moveGameObjectTo(object, source, translatePoint(source, delta));
+    }
+
+    /**
+     * Moves game object to target destination
+     * Removes object from original position and places it into the new one
+     *
+     * @param object      - the game object to be moved
+     * @param source      - the position of the object to be moved
+     * @param destination - the destination of the game object
+     * @throws ArrayIndexOutOfBoundsException if either point is outside the grid
+     */
+    public void moveGameObjectTo(GameObject object, Point source,
+                                 Point destination) {
+        moveGameObjectTo(object, m_objectsGrid.checkedIndexOf(source),
+                m_objectsGrid.checkedIndexOf(destination));
+    }
+
+    /**
+     * Moves game object between two cell indices
+     * Whatever was at the destination is placed into the source cell
+     *
+     * @param object      - the game object to be moved
+     * @param source      - the cell index of the object to be moved
+     * @param destination - the destination cell index of the game object
+     */
+    public void moveGameObjectTo(GameObject object, int source,
+                                 int destination) {
+        long crateKeys = crateKeyAt(source) ^ crateKeyAt(destination);
+        m_cratedDiamondsCount -= cratedDiamondAt(source) +
+                cratedDiamondAt(destination);
+        m_objectsGrid.putGameObjectAt(m_objectsGrid.getGameObjectAt
+                (destination), source);
+        m_objectsGrid.putGameObjectAt(object, destination);
+        m_cratedDiamondsCount += cratedDiamondAt(source) +
+                cratedDiamondAt(destination);
+
+        markChanged(source);
+        markChanged(destination);
+
+        crateKeys ^= crateKeyAt(source) ^ crateKeyAt(destination);
+        if (crateKeys != 0) {
+            m_hash ^= crateKeys;
+            m_keeperRegionDirty = true;
+        } else if (object == GameObject.KEEPER && !m_keeperRegionDirty) {
+            int keeperIndex = m_objectsGrid.getKeeperIndex();
+            m_keeperRegionDirty = keeperIndex < 0 ||
+                    (m_keeperRegion[keeperIndex >>> 6] &
+                            (1L << keeperIndex)) == 0;
+        }
+    }
+
+    /**
+     * LevelIterator iterates through the game grid
+     *
+     * @see Iterator
+     */
+    public class LevelIterator implements Iterator<GameObject> {
+
+        int column = 0;
+        int row = 0;
+
+        /**
+         * Getter for game grid position
+         *
+         * @return current game grid position
+         */
+        public Point getCurrentPosition() {
+            return new Point(column, row);
+        }
+
+        /**
+         * Whether to go to next grid line
+         *
+         * @return true if line iterated through else false
+         */
+        @Override
+        public boolean hasNext() {
+            return !(row == m_objectsGrid.getROWS() - 1 && column ==
+                    m_objectsGrid.getCOLUMNS());
+        }
+
+        /**
+         * Go to next row in game grid
+         *
+         * @return next row
+         */
+        @Override
+        public GameObject next() {
+            if (column >= m_objectsGrid.getCOLUMNS()) {
+                column = 0;
+                row++;
+            }
+
+            GameObject object = m_objectsGrid.getGameObjectAt(column, row);
+            GameObject diamond = m_diamondsGrid.getGameObjectAt(column, row);
+            GameObject retObj = object;
+
+            column++;
+
+            if (diamond == GameObject.DIAMOND) {
+                if (object == GameObject.CRATE) {
+                    retObj = GameObject.CRATE_ON_DIAMOND;
+                } else if (object == GameObject.FLOOR) {
+                    retObj = diamond;
+                }
+            }
+            return retObj;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,360 @@
+package com.model.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Binary sidecar index of a map set file, kept next to it as the file name plus .idx
+ * Holds the file length and hash, then one fixed size record per level: byte spans
+ * of the name and grid, rows, columns, crates, content hash and the name. It is read
+ * on open so levels can be listed and jumped to without scanning the map file. A
+ * catalog whose file length or hash differs is stale
+ *
+ * @author Zain Rashid
+ */
+public final class LevelCatalog {
+
+    /**
+     * Appended to the map set file name to get the catalog file name
+     */
+    public static final String EXTENSION = ".idx";
+
+    private static final int MAGIC = 0x534B4249;
+    private static final int VERSION = 3;
+    private static final int HEADER = 36;
+    private static final int RECORD = 40;
+    private static final int NO_NAME = -1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ByteBuffer m_buffer;
+    private final int m_count;
+
+    /**
+     * Create catalog over the bytes of a catalog file
+     *
+     * @param buffer the catalog bytes
+     */
+    private LevelCatalog(ByteBuffer buffer) {
+        m_buffer = buffer;
+        m_count = buffer.getInt(24);
+    }
+
+    /**
+     * Getter for the catalog file of a map set file
+     *
+     * @param mapFile the map set file
+     * @return path of its catalog
+     */
+    public static Path pathFor(Path mapFile) {
+        return mapFile.resolveSibling(mapFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Reads the catalog of a map set file if it is up to date
+     *
+     * @param mapFile the map set file
+     * @param source  the bytes of the map set file
+     * @return the LevelCatalog or null if it is missing, unreadable, corrupt or stale
+     */
+    static LevelCatalog load(Path mapFile, ByteBuffer source) {
+        Path path = pathFor(mapFile);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC ||
+                    buffer.getInt(4) != VERSION ||
+                    buffer.getLong(8) != source.capacity() ||
+                    buffer.getLong(16) != hash(source)) {
+                return null;
+            }
+            LevelCatalog catalog = new LevelCatalog(buffer);
+            return catalog.isConsistent(source.capacity()) ? catalog : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the catalog of an indexed map set file next to it
+     * The catalog is written to a temporary file first so a reader never sees half of it
+     *
+     * @param mapFile the map set file
+     * @param mapSet  the index built by scanning the file
+     * @throws IOException if the catalog couldn't be written
+     */
+    static void write(Path mapFile, MapSetIndex mapSet) throws IOException {
+        int count = mapSet.getLevelCount();
+        byte[][] names = new byte[count + 1][];
+        int nameBytes = 0;
+        for (int i = 0; i <= count; i++) {
+            String name = i < count ? mapSet.getLevelName(i) :
+                    mapSet.getMapSetName();
+            names[i] = name == null ? null :
+                    name.getBytes(StandardCharsets.UTF_8);
+            nameBytes += names[i] == null ? 0 : Integer.BYTES +
+                    names[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + count * RECORD +
+                nameBytes);
+        ByteBuffer source = mapSet.getSource();
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(source.capacity())
+                .putLong(hash(source)).putInt(count)
+                .putInt(mapSet.getHeaderEnd()).putInt(NO_NAME);
+
+        int nameOffset = HEADER + count * RECORD;
+        int[] spans = mapSet.getSpans();
+        for (int i = 0; i < count; i++) {
+            List<String> rows = mapSet.getRows(i);
+            for (int field = 0; field < 4; field++) {
+                buffer.putInt(spans[i * 4 + field]);
+            }
+            buffer.putInt(rows.size()).putInt(rows.get(0).length())
+                    .putInt(countCrates(rows)).putInt(nameOffset)
+                    .putLong(hash(rows));
+            nameOffset += Integer.BYTES + names[i].length;
+        }
+        buffer.putInt(32, names[count] == null ? NO_NAME : nameOffset);
+        for (byte[] name : names) {
+            if (name != null) {
+                buffer.putInt(name.length).put(name);
+            }
+        }
+
+        Path path = pathFor(mapFile);
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporary, buffer.array());
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Getter for the number of levels
+     *
+     * @return number of levels with a grid
+     */
+    public int getLevelCount() {
+        return m_count;
+    }
+
+    /**
+     * Getter for the map set name
+     *
+     * @return current map set name or null if the file has none
+     */
+    public String getMapSetName() {
+        int offset = m_buffer.getInt(32);
+        return offset == NO_NAME ? null : string(offset);
+    }
+
+    /**
+     * Getter for a level name
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return level name
+     */
+    public String getLevelName(int position) {
+        return string(m_buffer.getInt(record(position) + 28));
+    }
+
+    /**
+     * Getter for the number of grid rows of a level
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of rows
+     */
+    public int getRowCount(int position) {
+        return m_buffer.getInt(record(position) + 16);
+    }
+
+    /**
+     * Getter for the width of the first row of a level
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of columns
+     */
+    public int getColumnCount(int position) {
+        return m_buffer.getInt(record(position) + 20);
+    }
+
+    /**
+     * Getter for the number of crates of a level
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of crates, crates on diamonds included
+     */
+    public int getCrateCount(int position) {
+        return m_buffer.getInt(record(position) + 24);
+    }
+
+    /**
+     * Getter for the hash of a level grid
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return 64 bit hash of the rows
+     */
+    public long getContentHash(int position) {
+        return m_buffer.getLong(record(position) + 32);
+    }
+
+    /**
+     * Getter for where the header lines of the map set file end
+     *
+     * @return start of the first level name line or the file length
+     */
+    int getHeaderEnd() {
+        return m_buffer.getInt(28);
+    }
+
+    /**
+     * Copies the level spans out of the catalog in the layout MapSetIndex uses
+     *
+     * @return four spans per level: name start, name end, first row start, last row end
+     */
+    int[] getSpans() {
+        int[] spans = new int[Math.max(m_count * 4, 4)];
+        for (int i = 0; i < m_count; i++) {
+            for (int field = 0; field < 4; field++) {
+                spans[i * 4 + field] = m_buffer.getInt(record(i) +
+                        field * Integer.BYTES);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Counts the crates in the rows of a level
+     *
+     * @param rows the grid rows, upper case
+     * @return number of crates, crates on diamonds included
+     */
+    static int countCrates(List<String> rows) {
+        int crates = 0;
+        for (String row : rows) {
+            for (int i = 0; i < row.length(); i++) {
+                char symbol = row.charAt(i);
+                crates += symbol == 'C' || symbol == 'O' ? 1 : 0;
+            }
+        }
+        return crates;
+    }
+
+    /**
+     * Hashes the rows of a level with 64 bit FNV-1a, ending each row with a line break
+     *
+     * @param rows the grid rows
+     * @return the content hash
+     */
+    static long hash(List<String> rows) {
+        long hash = FNV_OFFSET;
+        for (String row : rows) {
+            for (int i = 0; i < row.length(); i++) {
+                hash = (hash ^ row.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ '\n') * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole file eight bytes at a time with an FNV-1a style multiply and rotate
+     * Every step can be undone, so changing any one eight byte word changes the hash
+     *
+     * @param source the file bytes
+     * @return the file hash
+     */
+    static long hash(ByteBuffer source) {
+        long hash = FNV_OFFSET;
+        int words = source.capacity() & -Long.BYTES;
+        for (int i = 0; i < words; i += Long.BYTES) {
+            hash = Long.rotateLeft((hash ^ source.getLong(i)) * FNV_PRIME, 29);
+        }
+        for (int i = words; i < source.capacity(); i++) {
+            hash = (hash ^ (source.get(i) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Checks that every count, span and name offset of the catalog lies inside the
+     * catalog and the map set file, so a corrupt catalog is never read past its end
+     *
+     * @param sourceLength the length of the map set file
+     * @return true if the catalog can be read safely else false
+     */
+    private boolean isConsistent(int sourceLength) {
+        if (m_count < 0 || m_buffer.capacity() < HEADER +
+                (long) m_count * RECORD || getHeaderEnd() < 0 ||
+                getHeaderEnd() > sourceLength) {
+            return false;
+        }
+        int mapSetName = m_buffer.getInt(32);
+        if (mapSetName != NO_NAME && !isString(mapSetName)) {
+            return false;
+        }
+        for (int i = 0; i < m_count; i++) {
+            int previous = 0;
+            for (int field = 0; field < 4; field++) {
+                int span = m_buffer.getInt(record(i) + field * Integer.BYTES);
+                if (span < previous || span > sourceLength) {
+                    return false;
+                }
+                previous = span;
+            }
+            if (!isString(m_buffer.getInt(record(i) + 28))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a length prefixed string lies inside the catalog
+     *
+     * @param offset offset of the string in the catalog
+     * @return true if the string can be read else false
+     */
+    private boolean isString(int offset) {
+        if (offset < HEADER || offset > m_buffer.capacity() - Integer.BYTES) {
+            return false;
+        }
+        int length = m_buffer.getInt(offset);
+        return length >= 0 && length <= m_buffer.capacity() - offset -
+                Integer.BYTES;
+    }
+
+    /**
+     * Getter for where the record of a level starts
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return offset of the record in the catalog
+     */
+    private int record(int position) {
+        return HEADER + position * RECORD;
+    }
+
+    /**
+     * Reads a length prefixed string from the name table
+     *
+     * @param offset offset of the string in the catalog
+     * @return the string
+     */
+    private String string(int offset) {
+        byte[] text = new byte[m_buffer.getInt(offset)];
+        m_buffer.get(offset + Integer.BYTES, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package com.model.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of validating one level of a map set
+ * Errors are structural faults in the map text, problems are reasons a well formed
+ * level can never be completed
+ *
+ * @author Zain Rashid
+ */
+public final class LevelCheck {
+
+    private final String m_name;
+    private final int m_index;
+    private final Level m_level;
+    private final List<String> m_errors;
+    private final List<String> m_problems;
+
+    /**
+     * Create level check
+     *
+     * @param name     the level name
+     * @param index    the level index or 0 if no level could be built
+     * @param level    the built level or null if the map text has no grid
+     * @param errors   structural errors found in the map text
+     * @param problems reasons the level cannot be completed
+     */
+    LevelCheck(String name, int index, Level level, List<String> errors,
+               List<String> problems) {
+        m_name = name;
+        m_index = index;
+        m_level = level;
+        m_errors = Collections.unmodifiableList(errors);
+        m_problems = Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Getter for level name
+     *
+     * @return current level name
+     */
+    public String getName() {
+        return m_name;
+    }
+
+    /**
+     * Getter for level index
+     *
+     * @return current level index or 0 if no level could be built
+     */
+    public int getIndex() {
+        return m_index;
+    }
+
+    /**
+     * Getter for the level built from the map text
+     *
+     * @return current Level instance or null if the map text has no grid
+     */
+    public Level getLevel() {
+        return m_level;
+    }
+
+    /**
+     * Getter for structural errors
+     *
+     * @return list of error messages
+     */
+    public List<String> getErrors() {
+        return m_errors;
+    }
+
+    /**
+     * Getter for reasons the level cannot be completed
+     *
+     * @return list of problem messages
+     */
+    public List<String> getProblems() {
+        return m_problems;
+    }
+
+    /**
+     * Getter for whether the map text is well formed
+     *
+     * @return true if there are no structural errors else false
+     */
+    public boolean isValid() {
+        return m_errors.isEmpty();
+    }
+
+    /**
+     * Getter for whether the level is well formed and not trivially unsolvable
+     *
+     * @return true if the level can be played else false
+     */
+    public boolean isPlayable() {
+        return m_errors.isEmpty() && m_problems.isEmpty();
+    }
+
+    /**
+     * Getter for the check as one line
+     *
+     * @return check in String form
+     */
+    @Override
+    public String toString() {
+        String status = !isValid() ? "INVALID " + m_errors :
+                !isPlayable() ? "UNSOLVABLE " + m_problems : "OK";
+        return String.format("%3d %-24s %s", m_index, m_name, status);
+    }
+}
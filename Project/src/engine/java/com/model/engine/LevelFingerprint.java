@@ -0,0 +1,299 @@
+package com.model.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * 128 bit fingerprint of the content of a level, equal for levels that play the same
+ * The level is cut down to the cells the keeper can walk to plus any crates and
+ * diamonds, so walls and dead outer space are dropped. The keeper is replaced by the
+ * region it can walk to without pushing, and of the 8 rotations and mirrors the
+ * smallest layout is hashed with MurmurHash3 so the name and map set do not matter
+ *
+ * @author Zain Rashid
+ */
+public final class LevelFingerprint {
+
+    private static final byte OUTSIDE = 0;
+    private static final byte FLOOR = 1;
+    private static final byte CRATE = 2;
+    private static final byte DIAMOND = 4;
+    private static final byte KEEPER_REGION = 8;
+    private static final int SYMMETRIES = 8;
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final long m_high;
+    private final long m_low;
+
+    /**
+     * Create fingerprint from its two halves
+     *
+     * @param high the upper 64 bits
+     * @param low  the lower 64 bits
+     */
+    public LevelFingerprint(long high, long low) {
+        m_high = high;
+        m_low = low;
+    }
+
+    /**
+     * Fingerprints the current layout of a level
+     *
+     * @param level the level, normally straight after it was read
+     * @return fingerprint of its canonical form
+     */
+    public static LevelFingerprint of(Level level) {
+        return hash(canonicalForm(level));
+    }
+
+    /**
+     * Reads a fingerprint back from its toString form
+     *
+     * @param text 32 hexadecimal digits
+     * @return the LevelFingerprint
+     * @throws NumberFormatException if the text is not a fingerprint
+     */
+    public static LevelFingerprint parse(String text) {
+        if (text.length() != 32) {
+            throw new NumberFormatException("Not a fingerprint: " + text);
+        }
+        return new LevelFingerprint(Long.parseUnsignedLong(text.substring(0,
+                16), 16), Long.parseUnsignedLong(text.substring(16), 16));
+    }
+
+    /**
+     * Getter for the upper half
+     *
+     * @return upper 64 bits
+     */
+    public long getHigh() {
+        return m_high;
+    }
+
+    /**
+     * Getter for the lower half
+     *
+     * @return lower 64 bits
+     */
+    public long getLow() {
+        return m_low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LevelFingerprint &&
+                ((LevelFingerprint) other).m_high == m_high &&
+                ((LevelFingerprint) other).m_low == m_low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(m_high ^ m_low);
+    }
+
+    /**
+     * Writes the fingerprint as 32 hexadecimal digits, safe to use in file names
+     *
+     * @return fingerprint in String form
+     */
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", m_high, m_low);
+    }
+
+    /**
+     * Builds the canonical form of a level
+     * Laid out as the height and width of the smallest of the 8 orientations of the
+     * bounding box of the playable cells, then one code per cell row by row
+     *
+     * @param level the level
+     * @return the canonical bytes
+     */
+    static byte[] canonicalForm(Level level) {
+        int columns = level.getColumns();
+        int cellCount = level.getCellCount();
+        FloodFill floodFill = new FloodFill(columns, cellCount);
+        long[] inside = new long[floodFill.getWordCount()];
+        long[] pieces = new long[inside.length];
+        long[] walkable = new long[inside.length];
+        for (int cell = 0; cell < cellCount; cell++) {
+            long bit = 1L << cell;
+            if (level.isWalkableAt(cell) || level.isDiamondAt(cell)) {
+                inside[cell >>> 6] |= bit;
+                walkable[cell >>> 6] |= level.isCrateAt(cell) ? 0 : bit;
+            }
+            if (level.isCrateAt(cell) || level.isDiamondAt(cell)) {
+                pieces[cell >>> 6] |= bit;
+            }
+        }
+
+        int keeper = level.getKeeperIndex();
+        long[] keeperRegion = new long[inside.length];
+        if (keeper >= 0) {
+            long[] reachable = new long[inside.length];
+            floodFill.fill(inside, keeper, reachable);
+            floodFill.fill(walkable, keeper, keeperRegion);
+            for (int word = 0; word < inside.length; word++) {
+                inside[word] &= reachable[word] | pieces[word];
+            }
+        }
+
+        int top = Integer.MAX_VALUE, left = Integer.MAX_VALUE;
+        int bottom = -1, right = -1;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (FloodFill.contains(inside, cell)) {
+                top = Math.min(top, cell / columns);
+                bottom = Math.max(bottom, cell / columns);
+                left = Math.min(left, cell % columns);
+                right = Math.max(right, cell % columns);
+            }
+        }
+        if (bottom < 0) {
+            return new byte[2 * Integer.BYTES];
+        }
+
+        int height = bottom - top + 1;
+        int width = right - left + 1;
+        byte[] codes = new byte[height * width];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int cell = (top + row) * columns + left + col;
+                if (!FloodFill.contains(inside, cell)) {
+                    continue;
+                }
+                codes[row * width + col] = (byte) (FLOOR |
+                        (level.isCrateAt(cell) ? CRATE : 0) |
+                        (level.isDiamondAt(cell) ? DIAMOND : 0) |
+                        (FloodFill.contains(keeperRegion, cell) ?
+                                KEEPER_REGION : 0));
+            }
+        }
+
+        byte[] best = null;
+        byte[] candidate = new byte[2 * Integer.BYTES + codes.length];
+        for (int symmetry = 0; symmetry < SYMMETRIES; symmetry++) {
+            orient(codes, height, width, symmetry, candidate);
+            if (best == null || Arrays.compare(candidate, best) < 0) {
+                best = candidate.clone();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Writes one of the 8 rotations and mirrors of a grid of cell codes
+     * Symmetries 4 to 7 swap rows and columns, bit 0 flips rows and bit 1 flips columns
+     *
+     * @param codes    the cell codes row by row
+     * @param height   the number of rows
+     * @param width    the number of columns
+     * @param symmetry the orientation from 0 to 7, 0 leaves the grid as it is
+     * @param result   filled with the oriented height, width and codes
+     */
+    private static void orient(byte[] codes, int height, int width,
+                               int symmetry, byte[] result) {
+        boolean swap = symmetry >= 4;
+        int outHeight = swap ? width : height;
+        int outWidth = swap ? height : width;
+        ByteBuffer.wrap(result).putInt(outHeight).putInt(outWidth);
+
+        int out = 2 * Integer.BYTES;
+        for (int a = 0; a < outHeight; a++) {
+            for (int b = 0; b < outWidth; b++) {
+                int row = swap ? b : a;
+                int col = swap ? a : b;
+                if ((symmetry & 1) != 0) {
+                    row = height - 1 - row;
+                }
+                if ((symmetry & 2) != 0) {
+                    col = width - 1 - col;
+                }
+                result[out++] = codes[row * width + col];
+            }
+        }
+    }
+
+    /**
+     * Hashes bytes with 128 bit MurmurHash3, the x64 variant with a seed of zero
+     *
+     * @param data the bytes to hash
+     * @return fingerprint holding both halves of the hash
+     */
+    static LevelFingerprint hash(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+        for (int block = 0; block < blocks; block++) {
+            h1 ^= mixFirst(buffer.getLong(block * 16));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixSecond(buffer.getLong(block * 16 + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        for (int i = data.length - tail - 1; i >= 0; i--) {
+            long value = data[tail + i] & 0xffL;
+            if (i >= 8) {
+                k2 |= value << ((i - 8) * 8);
+            } else {
+                k1 |= value << (i * 8);
+            }
+        }
+        if (data.length - tail > 8) {
+            h2 ^= mixSecond(k2);
+        }
+        if (data.length > tail) {
+            h1 ^= mixFirst(k1);
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = finish(h1);
+        h2 = finish(h2);
+        h1 += h2;
+        h2 += h1;
+        return new LevelFingerprint(h1, h2);
+    }
+
+    /**
+     * Scrambles a block for the first half of the hash
+     *
+     * @param k the block
+     * @return scrambled block
+     */
+    private static long mixFirst(long k) {
+        return Long.rotateLeft(k * C1, 31) * C2;
+    }
+
+    /**
+     * Scrambles a block for the second half of the hash
+     *
+     * @param k the block
+     * @return scrambled block
+     */
+    private static long mixSecond(long k) {
+        return Long.rotateLeft(k * C2, 33) * C1;
+    }
+
+    /**
+     * Final avalanche of one half of the hash
+     *
+     * @param k the half
+     * @return finished half
+     */
+    private static long finish(long k) {
+        k = (k ^ (k >>> 33)) * 0xff51afd7ed558ccdL;
+        k = (k ^ (k >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return k ^ (k >>> 33);
+    }
+}
@@ -0,0 +1,191 @@
+package com.model.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks parsed map text before play starts and builds every level with a grid
+ * Each level is checked on its own pool thread: one keeper, one diamond per crate,
+ * walls closed around the keeper, every crate and diamond inside them and no crate
+ * starting deadlocked
+ *
+ * @author Zain Rashid
+ */
+public class LevelValidator {
+
+    private final ForkJoinPool m_pool;
+
+    /**
+     * Create validator on the common pool
+     */
+    public LevelValidator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create validator on a chosen pool
+     *
+     * @param pool the pool the levels are checked on
+     */
+    public LevelValidator(ForkJoinPool pool) {
+        m_pool = pool;
+    }
+
+    /**
+     * Checks every level of an indexed map set in parallel, blocking until all are done
+     * Levels are checked in chunks at level boundaries, each one built from its rows
+     * and dropped once checked so memory stays flat, the checks in the report hold no
+     * levels
+     *
+     * @param mapSet the indexed map set
+     * @return report with one check per level in the same order
+     */
+    public ValidationReport validate(MapSetIndex mapSet) {
+        long start = System.nanoTime();
+        LevelCheck[] checks = new LevelCheck[mapSet.getLevelCount()];
+        mapSet.forEachPosition(m_pool, position -> {
+            LevelCheck check = check(mapSet.getLevelName(position),
+                    position + 1, mapSet.getRows(position));
+            checks[position] = new LevelCheck(check.getName(),
+                    check.getIndex(), null, check.getErrors(),
+                    check.getProblems());
+        });
+        return new ValidationReport(mapSet.getMapSetName(),
+                new ArrayList<>(Arrays.asList(checks)),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Checks one level and builds it when it has a grid
+     *
+     * @param name  the level name
+     * @param index the level index
+     * @param rows  the grid rows, upper case as Level reads them
+     * @return the LevelCheck of the level
+     */
+    public LevelCheck check(String name, int index, List<String> rows) {
+        List<String> errors = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        if (rows.isEmpty()) {
+            errors.add("Level has no grid");
+            return new LevelCheck(name, 0, null, errors, problems);
+        }
+
+        int keepers = 0;
+        int crates = 0;
+        int diamonds = 0;
+        int keeperRow = -1;
+        int keeperColumn = -1;
+        for (int row = 0; row < rows.size(); row++) {
+            String line = rows.get(row);
+            for (int column = 0; column < line.length(); column++) {
+                switch (GameObject.fromChar(line.charAt(column))) {
+                    case KEEPER -> {
+                        if (keepers++ == 0) {
+                            keeperRow = row;
+                            keeperColumn = column;
+                        }
+                    }
+                    case CRATE -> crates++;
+                    case DIAMOND -> diamonds++;
+                    case CRATE_ON_DIAMOND -> {
+                        crates++;
+                        diamonds++;
+                    }
+                }
+            }
+        }
+
+        for (int row = 1; row < rows.size(); row++) {
+            if (rows.get(row).length() > rows.get(0).length()) {
+                errors.add("Row " + (row + 1) + " is wider than the first " +
+                        "row");
+            }
+        }
+        if (keepers != 1) {
+            errors.add(keepers == 0 ? "No keeper" : keepers + " keepers");
+        }
+        if (crates != diamonds) {
+            errors.add(crates + " crates but " + diamonds + " diamonds");
+        } else if (crates == 0) {
+            errors.add("No crates");
+        }
+        if (keepers > 0) {
+            checkEnclosure(rows, keeperRow, keeperColumn, errors);
+        }
+
+        Level level = new Level(name, index, rows);
+        if (errors.isEmpty() && level.isDeadlocked()) {
+            problems.add("A crate starts on a dead square or frozen " +
+                    "off a diamond");
+        }
+        return new LevelCheck(name, index, level, errors, problems);
+    }
+
+    /**
+     * Flood fills from the keeper through every cell that is not a wall
+     * Reaching past the grid means the walls are open, crates and diamonds the fill
+     * misses can never be pushed or filled
+     *
+     * @param rows         the grid rows
+     * @param keeperRow    the row of the keeper
+     * @param keeperColumn the column of the keeper
+     * @param errors       list the errors are added to
+     */
+    private void checkEnclosure(List<String> rows, int keeperRow,
+                                int keeperColumn, List<String> errors) {
+        boolean[][] reached = new boolean[rows.size()][];
+        for (int row = 0; row < rows.size(); row++) {
+            reached[row] = new boolean[rows.get(row).length()];
+        }
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        reached[keeperRow][keeperColumn] = true;
+        queue.add(new int[]{keeperRow, keeperColumn});
+        boolean open = false;
+
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            for (byte direction = 0; direction < 4; direction++) {
+                int row = cell[0] + Direction.rowDelta(direction);
+                int column = cell[1] + Direction.columnDelta(direction);
+                if (row < 0 || row >= rows.size() || column < 0 ||
+                        column >= rows.get(row).length()) {
+                    open = true;
+                    continue;
+                }
+                if (!reached[row][column] && GameObject.fromChar(rows.get(
+                        row).charAt(column)) != GameObject.WALL) {
+                    reached[row][column] = true;
+                    queue.add(new int[]{row, column});
+                }
+            }
+        }
+        if (open) {
+            errors.add("Walls are not closed around the keeper");
+        }
+
+        int unreachedCrates = 0;
+        int unreachedDiamonds = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            for (int column = 0; column < rows.get(row).length(); column++) {
+                if (reached[row][column]) {
+                    continue;
+                }
+                GameObject object = GameObject.fromChar(rows.get(row)
+                        .charAt(column));
+                unreachedCrates += object == GameObject.CRATE ? 1 : 0;
+                unreachedDiamonds += object == GameObject.DIAMOND ? 1 : 0;
+            }
+        }
+        if (unreachedCrates > 0) {
+            errors.add(unreachedCrates + " crates out of the keeper's reach");
+        }
+        if (unreachedDiamonds > 0) {
+            errors.add(unreachedDiamonds + " diamonds out of the keeper's " +
+                    "reach");
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package com.model.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Index of the levels in a map set file, built in one pass over its bytes
+ * Only where each level name and grid starts and ends is recorded, a Level is built
+ * from its rows the first time it is asked for and kept from then on. Files opened from
+ * disk are indexed from their LevelCatalog when it is up to date
+ *
+ * @author Zain Rashid
+ */
+public final class MapSetIndex {
+
+    private static final int LINE = 0;
+    private static final int ROW = 1;
+    private static final int LEVEL_NAME = 2;
+    private static final int MAP_SET_NAME = 3;
+    private static final int SPAN = 4;
+    private static final int CHUNK = 32;
+
+    private final ByteBuffer m_source;
+    private final byte[] m_bytes;
+    private final LevelCatalog m_catalog;
+    private final List<String> m_header = new ArrayList<>();
+    private final LevelValidator m_validator = new LevelValidator();
+    private String m_mapSetName;
+    private int m_headerEnd = -1;
+    private int[] m_spans = new int[SPAN * 16];
+    private int m_count;
+    private final AtomicReferenceArray<LevelCheck> m_checks;
+
+    /**
+     * Create index over the text of a map set file
+     *
+     * @param source the bytes of the file, kept by the index
+     */
+    public MapSetIndex(byte[] source) {
+        this(ByteBuffer.wrap(source), null);
+    }
+
+    /**
+     * Create index over the text of a map set file
+     * With a catalog only the header lines are read, the level spans come from the catalog
+     *
+     * @param source  the bytes of the file, kept by the index
+     * @param catalog the up to date catalog of the file or null to scan the whole file
+     */
+    MapSetIndex(ByteBuffer source, LevelCatalog catalog) {
+        m_source = source;
+        m_bytes = source.hasArray() ? source.array() : null;
+        m_catalog = catalog;
+        if (catalog == null) {
+            index(source.capacity());
+        } else {
+            m_count = catalog.getLevelCount();
+            m_spans = catalog.getSpans();
+            m_headerEnd = catalog.getHeaderEnd();
+            index(m_headerEnd);
+            m_mapSetName = catalog.getMapSetName();
+        }
+        m_checks = new AtomicReferenceArray<>(m_count);
+    }
+
+    /**
+     * Reads a whole map set file and indexes it
+     *
+     * @param input the map set file
+     * @return new MapSetIndex of the file
+     * @throws IOException if the file couldn't be read
+     */
+    public static MapSetIndex read(InputStream input) throws IOException {
+        return new MapSetIndex(input.readAllBytes());
+    }
+
+    /**
+     * Reads a map set file and indexes it from its catalog
+     * A missing or stale catalog is rebuilt by scanning the file, then written for next time.
+     * The bytes are copied onto the heap so the file can be overwritten, by a save game
+     * for one, while the index is still in use
+     *
+     * @param file the map set file
+     * @return new MapSetIndex of the file
+     * @throws IOException if the file couldn't be read
+     */
+    public static MapSetIndex open(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer source = ByteBuffer.wrap(bytes);
+        LevelCatalog catalog = LevelCatalog.load(file, source);
+        if (catalog != null) {
+            return new MapSetIndex(source, catalog);
+        }
+        MapSetIndex mapSet = new MapSetIndex(bytes);
+        try {
+            LevelCatalog.write(file, mapSet);
+        } catch (IOException e) {
+            if (Level.isDebugActive()) {
+                System.out.println("Cannot write level catalog: " + e);
+            }
+        }
+        return mapSet;
+    }
+
+    /**
+     * Getter for map set name
+     *
+     * @return current map set name or null if the file has none
+     */
+    public String getMapSetName() {
+        return m_mapSetName;
+    }
+
+    /**
+     * Getter for the lines before the first level, such as the fields of a save game
+     *
+     * @return list of header lines
+     */
+    public List<String> getHeader() {
+        return Collections.unmodifiableList(m_header);
+    }
+
+    /**
+     * Getter for the number of levels with a grid
+     *
+     * @return number of levels
+     */
+    public int getLevelCount() {
+        return m_count;
+    }
+
+    /**
+     * Getter for a level name, read from the file text
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return level name
+     */
+    public String getLevelName(int position) {
+        if (m_catalog != null) {
+            return m_catalog.getLevelName(position);
+        }
+        int start = m_spans[position * SPAN];
+        int end = m_spans[position * SPAN + 1];
+        return decode(start, end).replace("LevelName: ", "");
+    }
+
+    /**
+     * Getter for the grid rows of a level, trimmed and upper case as Level reads them
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return new list of rows
+     */
+    public List<String> getRows(int position) {
+        List<String> rows = new ArrayList<>();
+        int start = m_spans[position * SPAN + 2];
+        int end = m_spans[position * SPAN + 3];
+        while (start < end) {
+            int next = start;
+            while (next < end && byteAt(next) != '\n') {
+                next++;
+            }
+            int lineEnd = lineEnd(start, next);
+            if (classify(start, lineEnd) == ROW) {
+                rows.add(decode(start, lineEnd).trim().toUpperCase());
+            }
+            start = next + 1;
+        }
+        return rows;
+    }
+
+    /**
+     * Getter for the number of grid rows of a level
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of rows
+     */
+    public int getRowCount(int position) {
+        return m_catalog != null ? m_catalog.getRowCount(position) :
+                getRows(position).size();
+    }
+
+    /**
+     * Getter for the width of a level, the length of its first row as Level reads it
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of columns
+     */
+    public int getColumnCount(int position) {
+        return m_catalog != null ? m_catalog.getColumnCount(position) :
+                getRows(position).get(0).length();
+    }
+
+    /**
+     * Getter for the number of crates of a level, crates on diamonds included
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return number of crates
+     */
+    public int getCrateCount(int position) {
+        return m_catalog != null ? m_catalog.getCrateCount(position) :
+                LevelCatalog.countCrates(getRows(position));
+    }
+
+    /**
+     * Getter for the hash of a level grid, the same wherever the level is stored
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return 64 bit hash of the rows
+     */
+    public long getContentHash(int position) {
+        return m_catalog != null ? m_catalog.getContentHash(position) :
+                LevelCatalog.hash(getRows(position));
+    }
+
+    /**
+     * Getter for the content fingerprint of a level as it is written in the file
+     * Reads a fresh copy of the level so the one being played is not used
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return fingerprint of the level layout
+     */
+    public LevelFingerprint getFingerprint(int position) {
+        return LevelFingerprint.of(new Level(getLevelName(position),
+                position + 1, getRows(position)));
+    }
+
+    /**
+     * Getter for the spans of every level, four per level: name start, name end,
+     * first row start and last row end
+     *
+     * @return the span array, only the first level count times four are used
+     */
+    int[] getSpans() {
+        return m_spans;
+    }
+
+    /**
+     * Getter for where the header lines end
+     *
+     * @return start of the first level name line or the file length
+     */
+    int getHeaderEnd() {
+        return m_headerEnd;
+    }
+
+    /**
+     * Getter for the file bytes
+     *
+     * @return the bytes of the file, shared with the index so only to be read
+     */
+    ByteBuffer getSource() {
+        return m_source;
+    }
+
+    /**
+     * Getter for a level, building and checking it on first use
+     * Safe to call from many threads, if two build a level at once the first one kept
+     * is returned to both
+     *
+     * @param position the position of the level in the map set, from zero
+     * @return Level with index position plus one
+     */
+    public Level getLevel(int position) {
+        LevelCheck check = m_checks.get(position);
+        if (check == null) {
+            LevelCheck built = m_validator.check(getLevelName(position),
+                    position + 1, getRows(position));
+            check = m_checks.compareAndSet(position, null, built) ? built :
+                    m_checks.get(position);
+        }
+        return check.getLevel();
+    }
+
+    /**
+     * Getter for the check made when a level was built
+     *
+     * @param level a level built by this index
+     * @return its LevelCheck or null if the level did not come from this index
+     */
+    public LevelCheck getCheck(Level level) {
+        int position = level.getIndex() - 1;
+        if (position < 0 || position >= m_count) {
+            return null;
+        }
+        LevelCheck check = m_checks.get(position);
+        return check != null && check.getLevel() == level ? check : null;
+    }
+
+    /**
+     * Builds every level that has not been built yet, in parallel
+     *
+     * @param pool the pool the levels are built on
+     * @return list view of the levels in map set order
+     */
+    public List<Level> buildAll(ForkJoinPool pool) {
+        forEachPosition(pool, this::getLevel);
+        return getLevels();
+    }
+
+    /**
+     * Runs an action for every level position on a pool, blocking until all are done
+     * The positions are split in half until each task holds at most CHUNK levels, so
+     * a pack of many small levels does not pay for one task per level
+     *
+     * @param pool   the pool the action runs on
+     * @param action takes the position of a level, from zero
+     */
+    public void forEachPosition(ForkJoinPool pool, IntConsumer action) {
+        pool.invoke(new PositionTask(action, 0, m_count));
+    }
+
+    /**
+     * Getter for the levels as a list, each built when it is first read
+     *
+     * @return list view of the levels in map set order
+     */
+    public List<Level> getLevels() {
+        return new AbstractList<>() {
+            @Override
+            public Level get(int position) {
+                return getLevel(position);
+            }
+
+            @Override
+            public int size() {
+                return m_count;
+            }
+        };
+    }
+
+    /**
+     * Getter for the file text of the levels from a position to the end of the map set
+     *
+     * @param position the position of the first level, from zero
+     * @return the name and grid lines of the levels, empty if there are none
+     */
+    public String getText(int position) {
+        if (position >= m_count) {
+            return "";
+        }
+        int start = m_spans[position * SPAN];
+        int end = m_spans[(m_count - 1) * SPAN + 3];
+        return "\n" + decode(start, end) + "\n";
+    }
+
+    /**
+     * Walks the file once, line by line, recording the spans of every level with a grid
+     *
+     * @param limit where to stop reading
+     */
+    private void index(int limit) {
+        int nameStart = -1;
+        int nameEnd = -1;
+        int rowsStart = -1;
+        int rowsEnd = -1;
+        int start = 0;
+
+        while (start < limit) {
+            int next = start;
+            while (next < limit && byteAt(next) != '\n') {
+                next++;
+            }
+            int end = lineEnd(start, next);
+
+            switch (classify(start, end)) {
+                case MAP_SET_NAME -> m_mapSetName = decode(start, end)
+                        .replace("MapSetName: ", "");
+                case LEVEL_NAME -> {
+                    m_headerEnd = m_headerEnd < 0 ? start : m_headerEnd;
+                    addLevel(nameStart, nameEnd, rowsStart, rowsEnd);
+                    nameStart = start;
+                    nameEnd = end;
+                    rowsStart = -1;
+                }
+                case ROW -> {
+                    if (nameStart >= 0) {
+                        rowsStart = rowsStart < 0 ? start : rowsStart;
+                        rowsEnd = end;
+                    }
+                }
+                default -> {
+                    if (nameStart < 0) {
+                        m_header.add(decode(start, end));
+                    }
+                }
+            }
+            start = next + 1;
+        }
+        addLevel(nameStart, nameEnd, rowsStart, rowsEnd);
+        m_headerEnd = m_headerEnd < 0 ? limit : m_headerEnd;
+    }
+
+    /**
+     * Records the spans of a level if it has a grid
+     *
+     * @param nameStart start of the level name line
+     * @param nameEnd   end of the level name line
+     * @param rowsStart start of the first grid row or -1 if there are none
+     * @param rowsEnd   end of the last grid row
+     */
+    private void addLevel(int nameStart, int nameEnd, int rowsStart,
+                          int rowsEnd) {
+        if (nameStart < 0 || rowsStart < 0) {
+            return;
+        }
+        if ((m_count + 1) * SPAN > m_spans.length) {
+            m_spans = Arrays.copyOf(m_spans, m_spans.length * 2);
+        }
+        int span = m_count++ * SPAN;
+        m_spans[span] = nameStart;
+        m_spans[span + 1] = nameEnd;
+        m_spans[span + 2] = rowsStart;
+        m_spans[span + 3] = rowsEnd;
+    }
+
+    /**
+     * Sorts a line in one scan: the name lines contain "MapSetName" or "LevelName",
+     * grid rows contain at least two walls
+     *
+     * @param start start of the line
+     * @param end   end of the line, line break excluded
+     * @return MAP_SET_NAME, LEVEL_NAME, ROW or LINE
+     */
+    private int classify(int start, int end) {
+        int walls = 0;
+        boolean levelName = false;
+        for (int i = start; i < end; i++) {
+            byte value = byteAt(i);
+            if (value == 'W' || value == 'w') {
+                walls++;
+            } else if (value == 'N' && matches(i + 1, end, "ame")) {
+                if (matches(i - 6, i, "MapSet")) {
+                    return MAP_SET_NAME;
+                }
+                levelName |= matches(i - 5, i, "Level");
+            }
+        }
+        return levelName ? LEVEL_NAME : walls >= 2 ? ROW : LINE;
+    }
+
+    /**
+     * Checks whether the bytes at a position spell out a word
+     *
+     * @param start where the word would start
+     * @param end   the end of the line
+     * @param word  the word, ASCII only
+     * @return true if the word is there else false
+     */
+    private boolean matches(int start, int end, String word) {
+        if (start < 0 || start + word.length() > end) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (byteAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the end of a line without a trailing carriage return
+     *
+     * @param start start of the line
+     * @param end   position of the line break
+     * @return end of the line content
+     */
+    private int lineEnd(int start, int end) {
+        return end > start && byteAt(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    /**
+     * Getter for a byte of the file, read straight from the array when there is one
+     *
+     * @param position position in the file
+     * @return the byte
+     */
+    private byte byteAt(int position) {
+        return m_bytes != null ? m_bytes[position] : m_source.get(position);
+    }
+
+    /**
+     * Decodes part of the file as text
+     *
+     * @param start start of the text
+     * @param end   end of the text
+     * @return the text as a String
+     */
+    private String decode(int start, int end) {
+        byte[] text = new byte[end - start];
+        m_source.get(start, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs an action over a range of level positions, splitting it while it is large
+     */
+    @SuppressWarnings("serial")
+    static final class PositionTask extends RecursiveAction {
+
+        private final IntConsumer m_action;
+        private final int m_from;
+        private final int m_to;
+
+        /**
+         * Create task over a range of positions
+         *
+         * @param action takes the position of a level
+         * @param from   first position
+         * @param to     position after the last
+         */
+        PositionTask(IntConsumer action, int from, int to) {
+            m_action = action;
+            m_from = from;
+            m_to = to;
+        }
+
+        /**
+         * Runs the action over the range or splits it in half
+         */
+        @Override
+        protected void compute() {
+            if (m_to - m_from <= CHUNK) {
+                for (int position = m_from; position < m_to; position++) {
+                    m_action.accept(position);
+                }
+            } else {
+                int middle = (m_from + m_to) >>> 1;
+                invokeAll(new PositionTask(m_action, m_from, middle),
+                        new PositionTask(m_action, middle, m_to));
+            }
+        }
+    }
+}
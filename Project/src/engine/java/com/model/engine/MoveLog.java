@@ -0,0 +1,212 @@
+package com.model.engine;
+
+import java.util.Arrays;
+
+/**
+ * Compact record of keeper moves
+ * Each move keeps its direction in two bits and whether it pushed a crate in one bit,
+ * packed into growable long arrays
+ *
+ * @author Zain Rashid
+ */
+public class MoveLog {
+
+    private static final int DIRECTIONS_PER_WORD = 32;
+    private static final int INITIAL_WORDS = 4;
+    private long[] m_directions = new long[INITIAL_WORDS];
+    private long[] m_pushes = new long[INITIAL_WORDS];
+    private int m_size = 0;
+
+    /**
+     * Builds a log from a move string such as "rrUd", upper case letters being pushes
+     *
+     * @param moves move string using u, r, d and l
+     * @return log holding the moves
+     * @throws IllegalArgumentException if the string holds any other letter
+     */
+    public static MoveLog fromString(String moves) {
+        MoveLog log = new MoveLog();
+        for (int i = 0; i < moves.length(); i++) {
+            char c = moves.charAt(i);
+            byte direction = Direction.fromChar(Character.toLowerCase(c));
+            if (direction == Direction.NONE) {
+                throw new IllegalArgumentException("Not a move: " + c);
+            }
+            log.record(direction, Character.isUpperCase(c));
+        }
+        return log;
+    }
+
+    /**
+     * Rebuilds a log written by toByteArray
+     *
+     * @param bytes the packed log
+     * @return log holding the moves
+     */
+    public static MoveLog fromByteArray(byte[] bytes) {
+        MoveLog log = new MoveLog();
+        int size = (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 |
+                (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+        int pushOffset = 4 + (size + 3) / 4;
+
+        for (int i = 0; i < size; i++) {
+            byte direction = (byte) ((bytes[4 + i / 4] >>> ((i % 4) * 2)) & 3);
+            boolean pushed = (bytes[pushOffset + i / 8] & (1 << (i % 8))) != 0;
+            log.record(direction, pushed);
+        }
+        return log;
+    }
+
+    /**
+     * Adds a move to the end of the log
+     *
+     * @param direction the direction code of the move
+     * @param pushed    whether the move pushed a crate
+     */
+    public void record(byte direction, boolean pushed) {
+        int word = m_size / DIRECTIONS_PER_WORD;
+        if (word == m_directions.length) {
+            m_directions = Arrays.copyOf(m_directions, word * 2);
+            m_pushes = Arrays.copyOf(m_pushes, Math.max(m_pushes.length, word));
+        }
+
+        int shift = (m_size % DIRECTIONS_PER_WORD) * 2;
+        m_directions[word] = (m_directions[word] & ~(3L << shift)) |
+                ((long) direction << shift);
+        if (pushed) {
+            m_pushes[m_size >>> 6] |= 1L << m_size;
+        } else {
+            m_pushes[m_size >>> 6] &= ~(1L << m_size);
+        }
+        m_size++;
+    }
+
+    /**
+     * Getter for the number of moves in the log
+     *
+     * @return move count
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * Getter for the direction of a logged move
+     *
+     * @param index position of the move in the log
+     * @return direction code of the move
+     */
+    public byte getDirection(int index) {
+        return (byte) ((m_directions[index / DIRECTIONS_PER_WORD] >>>
+                ((index % DIRECTIONS_PER_WORD) * 2)) & 3);
+    }
+
+    /**
+     * Getter for whether a logged move pushed a crate
+     *
+     * @param index position of the move in the log
+     * @return true if the move pushed a crate else false
+     */
+    public boolean isPush(int index) {
+        return (m_pushes[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Drops every move from the given position onwards
+     *
+     * @param size the number of moves to keep
+     */
+    public void truncate(int size) {
+        m_size = Math.min(m_size, Math.max(size, 0));
+    }
+
+    /**
+     * Overwrites this log with the moves of another log, reusing storage where possible
+     *
+     * @param other the log to copy
+     */
+    public void copyFrom(MoveLog other) {
+        if (m_directions.length < other.m_directions.length) {
+            m_directions = new long[other.m_directions.length];
+            m_pushes = new long[other.m_pushes.length];
+        }
+        System.arraycopy(other.m_directions, 0, m_directions, 0,
+                other.m_directions.length);
+        System.arraycopy(other.m_pushes, 0, m_pushes, 0,
+                other.m_pushes.length);
+        m_size = other.m_size;
+    }
+
+    /**
+     * Removes every move from the log while keeping its storage
+     */
+    public void clear() {
+        m_size = 0;
+    }
+
+    /**
+     * Applies the logged moves to a level without any rendering
+     * Stops at the first move that is blocked or whose push does not match the log
+     *
+     * @param level the level to play the moves on, normally freshly loaded
+     * @return the number of moves that played out as logged
+     */
+    public int replay(Level level) {
+        for (int i = 0; i < m_size; i++) {
+            byte result = level.move(getDirection(i));
+            if (result == Level.BLOCKED ||
+                    (result == Level.PUSHED) != isPush(i)) {
+                return i;
+            }
+        }
+        return m_size;
+    }
+
+    /**
+     * Checks that the log replays in full on a level and leaves it complete
+     *
+     * @param level the level to play the moves on, normally freshly loaded
+     * @return true if the log is a solution of the level else false
+     */
+    public boolean verify(Level level) {
+        return replay(level) == m_size && level.isComplete();
+    }
+
+    /**
+     * Packs the log into bytes: the move count, then two bits per direction,
+     * then one bit per push flag
+     *
+     * @return packed log
+     */
+    public byte[] toByteArray() {
+        int pushOffset = 4 + (m_size + 3) / 4;
+        byte[] bytes = new byte[pushOffset + (m_size + 7) / 8];
+        bytes[0] = (byte) (m_size >>> 24);
+        bytes[1] = (byte) (m_size >>> 16);
+        bytes[2] = (byte) (m_size >>> 8);
+        bytes[3] = (byte) m_size;
+
+        for (int i = 0; i < m_size; i++) {
+            bytes[4 + i / 4] |= (byte) (getDirection(i) << ((i % 4) * 2));
+            if (isPush(i)) {
+                bytes[pushOffset + i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the log as a move string, upper case letters being pushes
+     *
+     * @return move string such as "rrUd"
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(m_size);
+        for (int i = 0; i < m_size; i++) {
+            char c = Direction.toChar(getDirection(i));
+            sb.append(isPush(i) ? Character.toUpperCase(c) : c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package com.model.engine;
+
+/**
+ * Bounded undo and redo history of keeper moves
+ * Each move is stored as one reversible byte, its direction plus whether it pushed a crate,
+ * in a ring buffer that doubles as moves are made and drops the oldest move once full
+ *
+ * @author Zain Rashid
+ */
+public class UndoHistory {
+
+    /**
+     * Number of moves kept when no capacity is given
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final byte PUSH_FLAG = 4;
+    private static final byte DIRECTION_MASK = 3;
+    private final int m_capacity;
+    private byte[] m_records;
+    private int m_start = 0;
+    private int m_size = 0;
+    private int m_redoCount = 0;
+
+    /**
+     * Create history holding the default number of moves
+     */
+    public UndoHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create history holding up to a fixed number of moves
+     *
+     * @param capacity the most moves that can be undone
+     */
+    public UndoHistory(int capacity) {
+        m_capacity = capacity;
+        m_records = new byte[Math.min(capacity, INITIAL_CAPACITY)];
+    }
+
+    /**
+     * Adds a move to the history, discarding any moves that could be redone
+     *
+     * @param direction the direction code of the move
+     * @param pushed    whether the move pushed a crate
+     */
+    public void record(byte direction, boolean pushed) {
+        if (m_size == m_records.length && m_size < m_capacity) {
+            grow();
+        }
+        if (m_size == m_records.length) {
+            m_start = (m_start + 1) % m_records.length;
+            m_size--;
+        }
+        m_records[(m_start + m_size) % m_records.length] =
+                (byte) (pushed ? direction | PUSH_FLAG : direction);
+        m_size++;
+        m_redoCount = 0;
+    }
+
+    /**
+     * Doubles the ring up to the capacity, unwrapping the kept moves to its start
+     */
+    private void grow() {
+        byte[] records = new byte[(int) Math.min((long) m_records.length * 2,
+                m_capacity)];
+        int head = Math.min(m_size, m_records.length - m_start);
+        System.arraycopy(m_records, m_start, records, 0, head);
+        System.arraycopy(m_records, 0, records, head, m_size - head);
+        m_records = records;
+        m_start = 0;
+    }
+
+    /**
+     * Reverses the most recent move on a level
+     *
+     * @param level the level the move was made on
+     * @return true if a move was undone else false
+     */
+    public boolean undo(Level level) {
+        if (m_size == 0) {
+            return false;
+        }
+        byte record = m_records[(m_start + m_size - 1) % m_records.length];
+        if (!level.undoMove((byte) (record & DIRECTION_MASK),
+                (record & PUSH_FLAG) != 0)) {
+            return false;
+        }
+        m_size--;
+        m_redoCount++;
+        return true;
+    }
+
+    /**
+     * Plays the most recently undone move again on a level
+     *
+     * @param level the level the move was undone on
+     * @return result code of Level.move, BLOCKED if there was nothing to redo
+     */
+    public byte redo(Level level) {
+        if (m_redoCount == 0) {
+            return Level.BLOCKED;
+        }
+        byte record = m_records[(m_start + m_size) % m_records.length];
+        byte result = level.move((byte) (record & DIRECTION_MASK));
+        if (result != Level.BLOCKED) {
+            m_size++;
+            m_redoCount--;
+        }
+        return result;
+    }
+
+    /**
+     * Getter for the direction of the move that redo would play
+     *
+     * @return direction code or NONE if there is nothing to redo
+     */
+    public byte peekRedoDirection() {
+        return m_redoCount == 0 ? Direction.NONE :
+                (byte) (m_records[(m_start + m_size) % m_records.length] &
+                        DIRECTION_MASK);
+    }
+
+    /**
+     * Getter for the number of moves that can be undone
+     *
+     * @return undo count
+     */
+    public int getUndoCount() {
+        return m_size;
+    }
+
+    /**
+     * Getter for the number of moves that can be redone
+     *
+     * @return redo count
+     */
+    public int getRedoCount() {
+        return m_redoCount;
+    }
+
+    /**
+     * Forgets every move, keeping the ring it has grown to
+     */
+    public void clear() {
+        m_start = 0;
+        m_size = 0;
+        m_redoCount = 0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.model.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per level results of validating a whole map set
+ *
+ * @author Zain Rashid
+ */
+public final class ValidationReport {
+
+    private final String m_mapSetName;
+    private final List<LevelCheck> m_checks;
+    private final long m_elapsedNanos;
+
+    /**
+     * Create report
+     *
+     * @param mapSetName   the name of the map set
+     * @param checks       the check of each level in map set order
+     * @param elapsedNanos wall clock time of the validation in nanoseconds
+     */
+    ValidationReport(String mapSetName, List<LevelCheck> checks,
+                     long elapsedNanos) {
+        m_mapSetName = mapSetName;
+        m_checks = Collections.unmodifiableList(checks);
+        m_elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Getter for map set name
+     *
+     * @return current map set name
+     */
+    public String getMapSetName() {
+        return m_mapSetName;
+    }
+
+    /**
+     * Getter for checks
+     *
+     * @return the check of each level in map set order
+     */
+    public List<LevelCheck> getChecks() {
+        return m_checks;
+    }
+
+    /**
+     * Getter for the wall clock time of the validation
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return m_elapsedNanos;
+    }
+
+    /**
+     * Counts the levels with structural errors
+     *
+     * @return number of invalid levels
+     */
+    public int countInvalid() {
+        int count = 0;
+        for (LevelCheck check : m_checks) {
+            count += check.isValid() ? 0 : 1;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the well formed levels that cannot be completed
+     *
+     * @return number of unsolvable levels
+     */
+    public int countUnsolvable() {
+        int count = 0;
+        for (LevelCheck check : m_checks) {
+            count += check.isValid() && !check.isPlayable() ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Getter for whether every level can be played
+     *
+     * @return true if no level is invalid or unsolvable else false
+     */
+    public boolean isClean() {
+        return countInvalid() == 0 && countUnsolvable() == 0;
+    }
+
+    /**
+     * Getter for the one line summary of the map set
+     *
+     * @return summary in String form
+     */
+    public String getSummary() {
+        return String.format("%s: %d/%d levels playable, %d invalid, %d " +
+                        "unsolvable in %.3fms", m_mapSetName,
+                m_checks.size() - countInvalid() - countUnsolvable(),
+                m_checks.size(), countInvalid(), countUnsolvable(),
+                m_elapsedNanos / 1e6);
+    }
+
+    /**
+     * Getter for the report as a table, one line per level then the summary
+     *
+     * @return report in String form
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        for (LevelCheck check : m_checks) {
+            report.append(check).append(System.lineSeparator());
+        }
+        return report.append(getSummary()).toString();
+    }
+}
@@ -0,0 +1,339 @@
+package com.model.engine;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads level collections in the standard Sokoban text format of .xsb, .sok and .txt files
+ * # wall, $ crate, . diamond, @ keeper, * crate on diamond, + keeper on diamond and a
+ * space, - or _ for floor. Rows may be run length encoded: a count before a symbol
+ * repeats it and | ends a row. Levels are read one at a time straight into their grids,
+ * each named by the Title: line after it, else the line before it, else its number
+ *
+ * @author Zain Rashid
+ */
+public final class XsbImporter implements Iterator<Level>, Closeable {
+
+    private static final String BOARD_SYMBOLS = "#@+$*.-_ ";
+    private static final byte OUTSIDE = 0;
+
+    private final BufferedReader m_reader;
+    private String m_collectionTitle;
+    private String m_pendingRow;
+    private String m_description;
+    private Level m_next;
+    private int m_index;
+    private byte[] m_board = new byte[1024];
+    private int[] m_rowEnds = new int[64];
+    private int m_length;
+    private int m_rows;
+
+    /**
+     * Create importer over a level collection
+     *
+     * @param reader the collection text
+     */
+    public XsbImporter(Reader reader) {
+        m_reader = new BufferedReader(reader);
+    }
+
+    /**
+     * Reads a whole level collection
+     *
+     * @param input the collection file, read as UTF-8
+     * @return list of every level in the collection
+     * @throws IOException if the file couldn't be read
+     */
+    public static List<Level> readAll(InputStream input) throws IOException {
+        List<Level> levels = new ArrayList<>();
+        try (XsbImporter importer = new XsbImporter(new InputStreamReader(
+                input, StandardCharsets.UTF_8))) {
+            while (importer.hasNext()) {
+                levels.add(importer.next());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return levels;
+    }
+
+    /**
+     * Getter for the Title: line before the first level
+     *
+     * @return collection title or null if the file has none
+     */
+    public String getCollectionTitle() {
+        return m_collectionTitle;
+    }
+
+    /**
+     * Checks whether another level is left, reading it if needed
+     *
+     * @return true if there is another level else false
+     * @throws UncheckedIOException if the collection couldn't be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (m_next == null) {
+            try {
+                m_next = readLevel();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return m_next != null;
+    }
+
+    /**
+     * Getter for the next level of the collection
+     *
+     * @return next Level, indexed from one
+     * @throws NoSuchElementException if there are no levels left
+     */
+    @Override
+    public Level next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No levels left");
+        }
+        Level level = m_next;
+        m_next = null;
+        return level;
+    }
+
+    /**
+     * Closes the collection text
+     *
+     * @throws IOException if it couldn't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        m_reader.close();
+    }
+
+    /**
+     * Reads the rows of the next board then the lines up to the board after it
+     *
+     * @return the next Level or null at the end of the collection
+     * @throws IOException if the collection couldn't be read
+     */
+    private Level readLevel() throws IOException {
+        String line = m_pendingRow;
+        while (line == null) {
+            line = m_reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            if (isBoardRow(line)) {
+                break;
+            }
+            readNote(line, m_index == 0);
+            line = null;
+        }
+
+        m_length = 0;
+        m_rows = 0;
+        while (line != null && isBoardRow(line)) {
+            appendRow(line);
+            line = m_reader.readLine();
+        }
+
+        String description = m_description;
+        String title = null;
+        m_description = null;
+        while (line != null && !isBoardRow(line)) {
+            String value = field(line, "Title:");
+            if (value != null && title == null) {
+                title = value;
+            } else {
+                readNote(line, false);
+            }
+            line = m_reader.readLine();
+        }
+        m_pendingRow = line;
+
+        m_index++;
+        String name = title != null ? title : description != null ?
+                description : "Level " + m_index;
+        return buildLevel(name);
+    }
+
+    /**
+     * Remembers a line outside a board, the last plain line names the next board
+     * Fields such as Author: are skipped, a Title: in the file header names the collection
+     *
+     * @param line   the line
+     * @param header true if no level has been read yet
+     */
+    private void readNote(String line, boolean header) {
+        String text = line.trim();
+        if (text.startsWith(";")) {
+            text = text.substring(1).trim();
+        }
+        String title = field(text, "Title:");
+        if (header && title != null && m_collectionTitle == null) {
+            m_collectionTitle = title;
+        } else if (!text.isEmpty() && !text.matches("[\\w-]+:.*")) {
+            m_description = text;
+        }
+    }
+
+    /**
+     * Reads the value of a Key: value line
+     *
+     * @param line the line
+     * @param key  the key with its colon
+     * @return the trimmed value or null if the line is another line
+     */
+    private static String field(String line, String key) {
+        String text = line.trim();
+        if (!text.regionMatches(true, 0, key, 0, key.length())) {
+            return null;
+        }
+        return text.substring(key.length()).trim();
+    }
+
+    /**
+     * Checks whether a line is a board row, plain or run length encoded
+     *
+     * @param line the line
+     * @return true if it only holds board symbols and at least one wall else false
+     */
+    static boolean isBoardRow(String line) {
+        boolean wall = false;
+        for (int i = 0; i < line.length(); i++) {
+            char symbol = line.charAt(i);
+            if (symbol == '#') {
+                wall = true;
+            } else if (BOARD_SYMBOLS.indexOf(symbol) < 0 && symbol != '|' &&
+                    !Character.isDigit(symbol)) {
+                return false;
+            }
+        }
+        return wall;
+    }
+
+    /**
+     * Appends a board line to the board buffer, expanding any run lengths
+     *
+     * @param line the board line
+     */
+    private void appendRow(String line) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char symbol = line.charAt(i);
+            if (Character.isDigit(symbol)) {
+                count = count * 10 + symbol - '0';
+                continue;
+            }
+            if (symbol == '|') {
+                endRow();
+            } else {
+                for (int run = Math.max(count, 1); run > 0; run--) {
+                    if (m_length == m_board.length) {
+                        m_board = Arrays.copyOf(m_board, m_length * 2);
+                    }
+                    m_board[m_length++] = (byte) (symbol == '-' ||
+                            symbol == '_' ? ' ' : symbol);
+                }
+            }
+            count = 0;
+        }
+        endRow();
+    }
+
+    /**
+     * Closes the current row of the board buffer
+     */
+    private void endRow() {
+        if (m_rows == m_rowEnds.length) {
+            m_rowEnds = Arrays.copyOf(m_rowEnds, m_rows * 2);
+        }
+        m_rowEnds[m_rows++] = m_length;
+    }
+
+    /**
+     * Builds a level from the board buffer
+     * The board is padded to its widest row and the floor joined to its edge, which is
+     * outside the walls, becomes wall as it is in map set files
+     *
+     * @param name the level name
+     * @return new Level
+     */
+    private Level buildLevel(String name) {
+        int columns = 0;
+        for (int row = 0, start = 0; row < m_rows; row++) {
+            columns = Math.max(columns, m_rowEnds[row] - start);
+            start = m_rowEnds[row];
+        }
+        byte[] cells = new byte[m_rows * columns];
+        Arrays.fill(cells, (byte) ' ');
+        for (int row = 0, start = 0; row < m_rows; row++) {
+            System.arraycopy(m_board, start, cells, row * columns,
+                    m_rowEnds[row] - start);
+            start = m_rowEnds[row];
+        }
+        markOutside(cells, columns);
+
+        GameGrid objectsGrid = new GameGrid(m_rows, columns);
+        GameGrid diamondsGrid = new GameGrid(m_rows, columns);
+        for (int cell = 0; cell < cells.length; cell++) {
+            GameObject object = switch (cells[cell]) {
+                case '#', OUTSIDE -> GameObject.WALL;
+                case '$', '*' -> GameObject.CRATE;
+                case '@', '+' -> GameObject.KEEPER;
+                default -> GameObject.FLOOR;
+            };
+            objectsGrid.putGameObjectAt(object, cell);
+            if (cells[cell] == '.' || cells[cell] == '*' ||
+                    cells[cell] == '+') {
+                diamondsGrid.putGameObjectAt(GameObject.DIAMOND, cell);
+            }
+        }
+        return new Level(name, m_index, objectsGrid, diamondsGrid);
+    }
+
+    /**
+     * Marks every floor cell joined to the edge of the board as outside
+     *
+     * @param cells   the board, row by row
+     * @param columns the width of the board
+     */
+    private static void markOutside(byte[] cells, int columns) {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int cell = 0; cell < cells.length; cell++) {
+            int column = cell % columns;
+            boolean edge = cell < columns || cell >= cells.length - columns ||
+                    column == 0 || column == columns - 1;
+            if (edge && cells[cell] == ' ') {
+                cells[cell] = OUTSIDE;
+                queue.add(cell);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int column = cell % columns;
+            int[] neighbours = {cell - columns, cell + columns,
+                    column > 0 ? cell - 1 : -1,
+                    column < columns - 1 ? cell + 1 : -1};
+            for (int neighbour : neighbours) {
+                if (neighbour >= 0 && neighbour < cells.length &&
+                        cells[neighbour] == ' ') {
+                    cells[neighbour] = OUTSIDE;
+                    queue.add(neighbour);
+                }
+            }
+        }
+    }
+}
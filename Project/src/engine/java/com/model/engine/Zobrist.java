@@ -0,0 +1,51 @@
+package com.model.engine;
+
+/**
+ * Supplies the Zobrist keys used to hash level states
+ * Keys are derived from the cell index so equal layouts hash equally across levels
+ *
+ * @author Zain Rashid
+ */
+public final class Zobrist {
+
+    private static final long CRATE_SEED = 0x9E3779B97F4A7C15L;
+    private static final long KEEPER_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    /**
+     * Zobrist is a holder for static keys and is never instantiated
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Getter for the key of a crate standing on a cell
+     *
+     * @param index the packed cell index
+     * @return 64-bit crate key
+     */
+    public static long crateKey(int index) {
+        return mix(CRATE_SEED * (index + 1));
+    }
+
+    /**
+     * Getter for the key of the normalized keeper standing on a cell
+     *
+     * @param index the packed cell index
+     * @return 64-bit keeper key
+     */
+    public static long keeperKey(int index) {
+        return mix(KEEPER_SEED * (index + 1));
+    }
+
+    /**
+     * Scrambles a seed with the SplitMix64 finalizer
+     *
+     * @param z the seed to scramble
+     * @return scrambled 64-bit value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,159 @@
+package com.model.solver;
+
+import com.model.engine.Zobrist;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A* over push states, a state being the crate cells plus the normalized keeper
+ * Each push costs one so the first solved state taken from the queue has the fewest pushes
+ *
+ * @author Zain Rashid
+ */
+final class AStarSearch extends Search {
+
+    private static final int NODE_BYTES = 64;
+
+    /**
+     * Create A* search over a board
+     *
+     * @param board     the board to search
+     * @param solver    the solver holding the budgets
+     * @param table     the reset table of visited states, owned by this thread
+     * @param cancelled flag that stops the search once set
+     */
+    AStarSearch(Board board, Solver solver, TranspositionTable table,
+                AtomicBoolean cancelled) {
+        super(board, solver, table, cancelled);
+    }
+
+    @Override
+    int[] search() {
+        int[] start = getBoard().getCrates();
+        int[] startMatching = newMatching();
+        int startEstimate = estimate(start, startMatching);
+        if (startEstimate == Board.UNREACHABLE) {
+            return null;
+        }
+
+        PriorityQueue<Node> open = new PriorityQueue<>();
+        open.add(new Node(null, start, startMatching, getBoard().getKeeper(),
+                -1, 0, startEstimate, crateHash(start)));
+        Node loaded = null;
+
+        while (!open.isEmpty()) {
+            Node node = open.poll();
+            if (loaded != null) {
+                for (int crate : loaded.m_crates) {
+                    vacate(crate);
+                }
+            }
+            for (int crate : node.m_crates) {
+                occupy(crate);
+            }
+            loaded = node;
+
+            long hash = node.m_crateHash ^ Zobrist.keeperKey(reach(
+                    node.m_keeper));
+            if (!getTable().storeIfLower(hash, node.m_pushes)) {
+                continue;
+            }
+            if (node.m_estimate == 0) {
+                return node.toPushes();
+            }
+            if (countExpansion()) {
+                return null;
+            }
+
+            for (int i = 0; i < node.m_crates.length; i++) {
+                int crate = node.m_crates[i];
+                for (byte direction = 0; direction < 4; direction++) {
+                    int target = pushTarget(crate, direction);
+                    if (target < 0) {
+                        continue;
+                    }
+                    int[] crates = node.m_crates.clone();
+                    crates[i] = target;
+                    int[] matching = newMatching();
+                    int estimate = estimate(crates, i, node.m_matching,
+                            matching);
+                    if (estimate == Board.UNREACHABLE) {
+                        continue;
+                    }
+                    open.add(new Node(node, crates, matching, crate,
+                            (crate << 2) | direction, node.m_pushes + 1,
+                            estimate, node.m_crateHash ^
+                            Zobrist.crateKey(crate) ^
+                            Zobrist.crateKey(target)));
+                    addMemory(NODE_BYTES + 4L * (crates.length +
+                            matching.length));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Search node holding one push state and the push that reached it
+     */
+    private static final class Node implements Comparable<Node> {
+
+        private final Node m_parent;
+        private final int[] m_crates;
+        private final int[] m_matching;
+        private final int m_keeper;
+        private final int m_push;
+        private final int m_pushes;
+        private final int m_estimate;
+        private final long m_crateHash;
+
+        /**
+         * Create node
+         *
+         * @param parent    the node this was pushed from or null at the start
+         * @param crates    the crate cells
+         * @param matching  the crate to diamond matching of the crates
+         * @param keeper    the keeper cell
+         * @param push      the encoded push from the parent or -1 at the start
+         * @param pushes    pushes made since the start
+         * @param estimate  lower bound on pushes left
+         * @param crateHash Zobrist hash of the crates
+         */
+        private Node(Node parent, int[] crates, int[] matching, int keeper,
+                     int push, int pushes, int estimate, long crateHash) {
+            m_parent = parent;
+            m_crates = crates;
+            m_matching = matching;
+            m_keeper = keeper;
+            m_push = push;
+            m_pushes = pushes;
+            m_estimate = estimate;
+            m_crateHash = crateHash;
+        }
+
+        /**
+         * Collects the pushes from the start to this node
+         *
+         * @return encoded pushes in play order
+         */
+        private int[] toPushes() {
+            int[] pushes = new int[m_pushes];
+            for (Node node = this; node.m_parent != null;
+                 node = node.m_parent) {
+                pushes[node.m_pushes - 1] = node.m_push;
+            }
+            return pushes;
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int total = m_pushes + m_estimate;
+            int otherTotal = other.m_pushes + other.m_estimate;
+            if (total != otherTotal) {
+                return Integer.compare(total, otherTotal);
+            }
+            return Integer.compare(m_estimate, other.m_estimate);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.model.solver;
+
+import java.util.Arrays;
+
+/**
+ * Lower bound on the pushes left, the cheapest way to give every crate its own diamond
+ * Solved with the Hungarian algorithm over the push distances of the board
+ * A solved matching is kept as the diamond potentials and the crate on each diamond,
+ * so after a push only the row of the moved crate is repaired, O(n^2) instead of O(n^3)
+ *
+ * @author Zain Rashid
+ */
+final class AssignmentBound {
+
+    private static final int INFINITE_COST = 1 << 24;
+    private final Board m_board;
+    private final int m_size;
+    private final int[] m_rowPotential;
+    private final int[] m_columnPotential;
+    private final int[] m_columnOwner;
+    private final int[] m_way;
+    private final int[] m_minSlack;
+    private final boolean[] m_used;
+
+    /**
+     * Create bound for a board, with scratch space for one crate per diamond
+     *
+     * @param board the board holding the push distances
+     */
+    AssignmentBound(Board board) {
+        m_board = board;
+        m_size = board.getDiamonds().length;
+        m_rowPotential = new int[m_size + 1];
+        m_columnPotential = new int[m_size + 1];
+        m_columnOwner = new int[m_size + 1];
+        m_way = new int[m_size + 1];
+        m_minSlack = new int[m_size + 1];
+        m_used = new boolean[m_size + 1];
+    }
+
+    /**
+     * Getter for the length of a saved matching
+     *
+     * @return ints needed to hold the diamond potentials and owners
+     */
+    int getMatchingLength() {
+        return (m_size + 1) << 1;
+    }
+
+    /**
+     * Cost of pushing a crate to a diamond
+     *
+     * @param crate   the crate cell
+     * @param diamond the position of the diamond in Board.getDiamonds
+     * @return push distance, INFINITE_COST if the diamond cannot be reached
+     */
+    private int cost(int crate, int diamond) {
+        int distance = m_board.getDistance(diamond, crate);
+        return distance == Board.UNREACHABLE ? INFINITE_COST : distance;
+    }
+
+    /**
+     * Minimum total push distance over every matching of crates to diamonds
+     *
+     * @param crates   the crate cells, one per diamond
+     * @param matching filled with the solved matching for later updates
+     * @return lower bound on the pushes left or UNREACHABLE if a crate cannot be matched
+     */
+    int estimate(int[] crates, int[] matching) {
+        Arrays.fill(m_rowPotential, 0);
+        Arrays.fill(m_columnPotential, 0);
+        Arrays.fill(m_columnOwner, 0);
+
+        for (int row = 1; row <= m_size; row++) {
+            if (m_board.getMinDistance(crates[row - 1]) ==
+                    Board.UNREACHABLE) {
+                return Board.UNREACHABLE;
+            }
+            augment(crates, row);
+        }
+        return save(crates, matching);
+    }
+
+    /**
+     * Minimum total push distance after one crate of a solved matching has moved
+     * The other crates keep their potentials, which stay feasible since their costs
+     * are unchanged, so one augmenting path from the moved crate restores the optimum
+     *
+     * @param crates   the crate cells with the moved crate already updated
+     * @param moved    the position of the moved crate in crates
+     * @param parent   the matching solved before the crate moved
+     * @param matching filled with the repaired matching, may be parent itself
+     * @return lower bound on the pushes left or UNREACHABLE if a crate cannot be matched
+     */
+    int estimate(int[] crates, int moved, int[] parent, int[] matching) {
+        if (m_board.getMinDistance(crates[moved]) == Board.UNREACHABLE) {
+            return Board.UNREACHABLE;
+        }
+        int row = moved + 1;
+        System.arraycopy(parent, 0, m_columnPotential, 0, m_size + 1);
+        System.arraycopy(parent, m_size + 1, m_columnOwner, 0, m_size + 1);
+        m_columnOwner[0] = 0;
+
+        int rowPotential = Integer.MAX_VALUE;
+        for (int column = 1; column <= m_size; column++) {
+            int owner = m_columnOwner[column];
+            if (owner == row) {
+                m_columnOwner[column] = 0;
+            } else {
+                m_rowPotential[owner] = cost(crates[owner - 1], column - 1) -
+                        m_columnPotential[column];
+            }
+            rowPotential = Math.min(rowPotential, cost(crates[moved],
+                    column - 1) - m_columnPotential[column]);
+        }
+        m_rowPotential[row] = rowPotential;
+
+        augment(crates, row);
+        return save(crates, matching);
+    }
+
+    /**
+     * Adds a crate to the matching along the cheapest augmenting path
+     * The crate potentials and owners of every other diamond must be feasible
+     *
+     * @param crates the crate cells
+     * @param row    the crate to add, its position in crates plus one
+     */
+    private void augment(int[] crates, int row) {
+        m_columnOwner[0] = row;
+        int column = 0;
+        Arrays.fill(m_minSlack, Integer.MAX_VALUE);
+        Arrays.fill(m_used, false);
+
+        do {
+            m_used[column] = true;
+            int owner = m_columnOwner[column];
+            int delta = Integer.MAX_VALUE;
+            int nextColumn = 0;
+            for (int j = 1; j <= m_size; j++) {
+                if (m_used[j]) {
+                    continue;
+                }
+                int slack = cost(crates[owner - 1], j - 1) -
+                        m_rowPotential[owner] - m_columnPotential[j];
+                if (slack < m_minSlack[j]) {
+                    m_minSlack[j] = slack;
+                    m_way[j] = column;
+                }
+                if (m_minSlack[j] < delta) {
+                    delta = m_minSlack[j];
+                    nextColumn = j;
+                }
+            }
+            for (int j = 0; j <= m_size; j++) {
+                if (m_used[j]) {
+                    m_rowPotential[m_columnOwner[j]] += delta;
+                    m_columnPotential[j] -= delta;
+                } else {
+                    m_minSlack[j] -= delta;
+                }
+            }
+            column = nextColumn;
+        } while (m_columnOwner[column] != 0);
+
+        do {
+            int previous = m_way[column];
+            m_columnOwner[column] = m_columnOwner[previous];
+            column = previous;
+        } while (column != 0);
+    }
+
+    /**
+     * Sums the matched costs and saves the matching
+     * Potentials are shifted so the largest diamond potential is zero, which keeps
+     * them bounded however many updates are chained
+     *
+     * @param crates   the crate cells
+     * @param matching filled with the diamond potentials then the owners
+     * @return lower bound on the pushes left or UNREACHABLE if a crate cannot be matched
+     */
+    private int save(int[] crates, int[] matching) {
+        long total = 0;
+        int shift = Integer.MIN_VALUE;
+        for (int column = 1; column <= m_size; column++) {
+            total += cost(crates[m_columnOwner[column] - 1], column - 1);
+            shift = Math.max(shift, m_columnPotential[column]);
+        }
+        for (int column = 1; column <= m_size; column++) {
+            matching[column] = m_columnPotential[column] - shift;
+        }
+        System.arraycopy(m_columnOwner, 0, matching, m_size + 1, m_size + 1);
+        return total >= INFINITE_COST ? Board.UNREACHABLE : (int) total;
+    }
+}
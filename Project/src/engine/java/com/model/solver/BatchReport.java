@@ -0,0 +1,111 @@
+package com.model.solver;
+
+import com.model.engine.Level;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per level results of solving a whole map set
+ *
+ * @author Zain Rashid
+ */
+public final class BatchReport {
+
+    private final List<Level> m_levels;
+    private final List<SolverResult> m_results;
+    private final long m_elapsedNanos;
+
+    /**
+     * Create report
+     *
+     * @param levels       the levels in map set order
+     * @param results      the result of each level in the same order
+     * @param elapsedNanos wall clock time of the whole batch in nanoseconds
+     */
+    BatchReport(List<Level> levels, List<SolverResult> results,
+                long elapsedNanos) {
+        m_levels = Collections.unmodifiableList(levels);
+        m_results = Collections.unmodifiableList(results);
+        m_elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Getter for levels
+     *
+     * @return the solved levels in map set order
+     */
+    public List<Level> getLevels() {
+        return m_levels;
+    }
+
+    /**
+     * Getter for results
+     *
+     * @return the result of each level in map set order
+     */
+    public List<SolverResult> getResults() {
+        return m_results;
+    }
+
+    /**
+     * Getter for the wall clock time of the batch
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return m_elapsedNanos;
+    }
+
+    /**
+     * Counts the levels that ended with a status
+     *
+     * @param status the status to count
+     * @return number of levels with that status
+     */
+    public int count(SolverResult.Status status) {
+        int count = 0;
+        for (SolverResult result : m_results) {
+            if (result.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Getter for the nodes expanded over every level
+     *
+     * @return total nodes expanded
+     */
+    public long getTotalNodesExpanded() {
+        long total = 0;
+        for (SolverResult result : m_results) {
+            total += result.getNodesExpanded();
+        }
+        return total;
+    }
+
+    /**
+     * Getter for the report as a table, one line per level then a summary
+     *
+     * @return report in String form
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < m_levels.size(); i++) {
+            report.append(String.format("%3d %-24s %s%n",
+                    m_levels.get(i).getIndex(), m_levels.get(i).getName(),
+                    m_results.get(i)));
+        }
+        report.append(String.format("%d/%d solved, %d unsolvable, %d " +
+                        "invalid, %d over budget, %d cancelled in %.3fms",
+                count(SolverResult.Status.SOLVED), m_results.size(),
+                count(SolverResult.Status.UNSOLVABLE),
+                count(SolverResult.Status.INVALID),
+                count(SolverResult.Status.LIMIT_REACHED),
+                count(SolverResult.Status.CANCELLED), m_elapsedNanos / 1e6));
+        return report.toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.model.solver;
+
+import com.model.engine.Level;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Solves every level of a map set in parallel on a ForkJoinPool
+ * Each level runs under the node, time and memory limits of the given solver
+ *
+ * @author Zain Rashid
+ */
+public class BatchSolver {
+
+    private final Solver m_solver;
+    private final ForkJoinPool m_pool;
+    private volatile AtomicBoolean m_cancelled = new AtomicBoolean();
+
+    /**
+     * Create batch solver on the common pool
+     *
+     * @param solver the solver whose algorithm and limits are used per level
+     */
+    public BatchSolver(Solver solver) {
+        this(solver, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create batch solver on a chosen pool
+     *
+     * @param solver the solver whose algorithm and limits are used per level
+     * @param pool   the pool the levels are solved on
+     */
+    public BatchSolver(Solver solver, ForkJoinPool pool) {
+        m_solver = solver;
+        m_pool = pool;
+    }
+
+    /**
+     * Getter for solver
+     *
+     * @return current Solver instance
+     */
+    public Solver getSolver() {
+        return m_solver;
+    }
+
+    /**
+     * Solves every level, blocking until all are done or cancelled
+     * Levels still waiting when cancel is called finish straight away as CANCELLED.
+     * Each level is read from the list by the task solving it, so a lazy list such as
+     * MapSetIndex.getLevels is built on the pool
+     *
+     * @param levels the levels of a map set, as returned by LoadGame.loadGameFile
+     * @return report with one result per level in the same order
+     */
+    public BatchReport solveAll(List<Level> levels) {
+        long start = System.nanoTime();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        m_cancelled = cancelled;
+        SolverResult[] results = new SolverResult[levels.size()];
+        m_pool.invoke(new SolveRange(levels, results, cancelled, 0,
+                results.length));
+        return new BatchReport(new ArrayList<>(levels),
+                new ArrayList<>(Arrays.asList(results)),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Stops the batch started last, in flight levels stop at their next check
+     */
+    public void cancel() {
+        m_cancelled.set(true);
+    }
+
+    /**
+     * Getter for whether the batch has been cancelled
+     *
+     * @return true if cancel was called since the last batch started else false
+     */
+    public boolean isCancelled() {
+        return m_cancelled.get();
+    }
+
+    /**
+     * Task that splits a range of levels in half until one level is left to solve
+     * Splitting lets idle workers steal the other half of a slow range
+     */
+    @SuppressWarnings("serial")
+    private final class SolveRange extends RecursiveAction {
+
+        private final List<Level> m_levels;
+        private final SolverResult[] m_results;
+        private final AtomicBoolean m_cancelled;
+        private final int m_from;
+        private final int m_to;
+
+        /**
+         * Create task for a range of levels
+         *
+         * @param levels    every level of the batch
+         * @param results   slot per level the results are written to
+         * @param cancelled flag of the batch that stops its levels once set
+         * @param from      first level of the range
+         * @param to        one past the last level of the range
+         */
+        private SolveRange(List<Level> levels, SolverResult[] results,
+                           AtomicBoolean cancelled, int from, int to) {
+            m_levels = levels;
+            m_results = results;
+            m_cancelled = cancelled;
+            m_from = from;
+            m_to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (m_to - m_from > 1) {
+                int middle = (m_from + m_to) >>> 1;
+                invokeAll(new SolveRange(m_levels, m_results, m_cancelled,
+                                m_from, middle),
+                        new SolveRange(m_levels, m_results, m_cancelled,
+                                middle, m_to));
+            } else if (m_to > m_from) {
+                m_results[m_from] = m_solver.solve(m_levels.get(m_from),
+                        m_cancelled);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.model.solver;
+
+import com.model.engine.DeadlockDetector;
+import com.model.engine.Direction;
+import com.model.engine.Level;
+
+import java.util.Arrays;
+
+/**
+ * Static snapshot of a level used by the search, walls, diamonds and push distances
+ * Crates and keeper are only read once as the start state
+ *
+ * @author Zain Rashid
+ */
+final class Board {
+
+    /**
+     * Push distance of a cell from which no diamond can be reached
+     */
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    private final int m_columns;
+    private final int m_cellCount;
+    private final boolean[] m_walkable;
+    private final long[] m_walkableBits;
+    private final int[] m_neighbours;
+    private final int[] m_diamonds;
+    private final int[][] m_diamondDistances;
+    private final int[] m_minDistance;
+    private final int[] m_crates;
+    private final int m_keeper;
+    private final DeadlockDetector m_deadlocks;
+
+    /**
+     * Create board from the current state of a level
+     *
+     * @param level the level to snapshot
+     */
+    Board(Level level) {
+        m_columns = level.getColumns();
+        m_cellCount = level.getCellCount();
+        m_walkable = new boolean[m_cellCount];
+        m_walkableBits = new long[(m_cellCount + 63) >>> 6];
+        m_keeper = level.getKeeperIndex();
+        m_deadlocks = new DeadlockDetector(level);
+
+        int crateCount = 0;
+        int diamondCount = 0;
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            m_walkable[cell] = level.isWalkableAt(cell);
+            if (m_walkable[cell]) {
+                m_walkableBits[cell >>> 6] |= 1L << cell;
+            }
+            crateCount += level.isCrateAt(cell) ? 1 : 0;
+            diamondCount += level.isDiamondAt(cell) ? 1 : 0;
+        }
+        m_crates = new int[crateCount];
+        m_diamonds = new int[diamondCount];
+        crateCount = 0;
+        diamondCount = 0;
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            if (level.isCrateAt(cell)) {
+                m_crates[crateCount++] = cell;
+            }
+            if (level.isDiamondAt(cell)) {
+                m_diamonds[diamondCount++] = cell;
+            }
+        }
+
+        m_neighbours = new int[m_cellCount << 2];
+        for (int cell = 0; cell < m_cellCount; cell++) {
+            for (byte direction = 0; direction < 4; direction++) {
+                m_neighbours[(cell << 2) | direction] = step(cell, direction);
+            }
+        }
+
+        m_diamondDistances = new int[m_diamonds.length][];
+        m_minDistance = new int[m_cellCount];
+        Arrays.fill(m_minDistance, UNREACHABLE);
+        int[] queue = new int[m_cellCount];
+        for (int i = 0; i < m_diamonds.length; i++) {
+            m_diamondDistances[i] = pullDistances(m_diamonds[i], queue);
+            for (int cell = 0; cell < m_cellCount; cell++) {
+                m_minDistance[cell] = Math.min(m_minDistance[cell],
+                        m_diamondDistances[i][cell]);
+            }
+        }
+    }
+
+    /**
+     * Finds the walkable cell one step away from a cell
+     *
+     * @param cell      the packed cell index
+     * @param direction the direction code to step in
+     * @return the walkable neighbour or -1 if there is a wall or the grid edge
+     */
+    private int step(int cell, byte direction) {
+        int column = cell % m_columns + Direction.columnDelta(direction);
+        int target = cell + Direction.rowDelta(direction) * m_columns +
+                Direction.columnDelta(direction);
+        if (column < 0 || column >= m_columns || target < 0 ||
+                target >= m_cellCount || !m_walkable[target]) {
+            return -1;
+        }
+        return target;
+    }
+
+    /**
+     * Breadth first search of crate pulls away from a diamond, ignoring other crates
+     * A crate can be pulled from p to q when the keeper has room to stand past q
+     *
+     * @param diamond the diamond cell
+     * @param queue   scratch queue with one slot per cell
+     * @return fewest pushes from every cell to the diamond, UNREACHABLE if none
+     */
+    private int[] pullDistances(int diamond, int[] queue) {
+        int[] distances = new int[m_cellCount];
+        Arrays.fill(distances, UNREACHABLE);
+        distances[diamond] = 0;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = diamond;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            for (byte direction = 0; direction < 4; direction++) {
+                int from = getNeighbour(cell, direction);
+                int keeper = from < 0 ? -1 : getNeighbour(from, direction);
+                if (keeper >= 0 && distances[from] == UNREACHABLE) {
+                    distances[from] = distances[cell] + 1;
+                    queue[tail++] = from;
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Getter for the number of columns
+     *
+     * @return current column count
+     */
+    int getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * Getter for the number of cells
+     *
+     * @return current cell count
+     */
+    int getCellCount() {
+        return m_cellCount;
+    }
+
+    /**
+     * Getter for the cells that are not walls as a bitset
+     *
+     * @return one bit per cell, shared so callers must only read from it
+     */
+    long[] getWalkable() {
+        return m_walkableBits;
+    }
+
+    /**
+     * Getter for the walkable neighbour of a cell
+     *
+     * @param cell      the packed cell index
+     * @param direction the direction code
+     * @return the neighbour index or -1 if it is not walkable
+     */
+    int getNeighbour(int cell, byte direction) {
+        return m_neighbours[(cell << 2) | direction];
+    }
+
+    /**
+     * Getter for the diamond cells
+     *
+     * @return diamond cell indices, shared so callers must only read from it
+     */
+    int[] getDiamonds() {
+        return m_diamonds;
+    }
+
+    /**
+     * Getter for the push distance from a cell to one diamond
+     *
+     * @param diamond the position of the diamond in getDiamonds
+     * @param cell    the packed cell index
+     * @return fewest pushes ignoring other crates or UNREACHABLE
+     */
+    int getDistance(int diamond, int cell) {
+        return m_diamondDistances[diamond][cell];
+    }
+
+    /**
+     * Getter for the push distance from a cell to its nearest diamond
+     *
+     * @param cell the packed cell index
+     * @return fewest pushes ignoring other crates or UNREACHABLE for a dead square
+     */
+    int getMinDistance(int cell) {
+        return m_minDistance[cell];
+    }
+
+    /**
+     * Getter for the crate cells at the start
+     *
+     * @return a new array of start crate indices
+     */
+    int[] getCrates() {
+        return m_crates.clone();
+    }
+
+    /**
+     * Getter for the freeze deadlock detector of this board
+     *
+     * @return current DeadlockDetector instance, owned by the search thread
+     */
+    DeadlockDetector getDeadlocks() {
+        return m_deadlocks;
+    }
+
+    /**
+     * Getter for the keeper cell at the start
+     *
+     * @return start keeper index or -1 if the level has no keeper
+     */
+    int getKeeper() {
+        return m_keeper;
+    }
+}
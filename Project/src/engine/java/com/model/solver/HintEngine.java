@@ -0,0 +1,273 @@
+package com.model.solver;
+
+import com.model.engine.Direction;
+import com.model.engine.Level;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Works out the next recommended move for a level on a background thread
+ * A solve starts as soon as a position is requested and its solution is cached by
+ * state hash for every push on the way, so a hint for a solved position is instant
+ * Requests, cancels and hint lookups are made from one thread, the game thread
+ *
+ * @author Zain Rashid
+ */
+public class HintEngine {
+
+    /**
+     * Hint returned while the position is still being solved or was not requested
+     */
+    public static final byte NOT_READY = Direction.NONE;
+    /**
+     * Hint returned when the position can no longer be completed
+     */
+    public static final byte NO_SOLUTION = -2;
+    /**
+     * Hint returned when the position could not be solved within the limits
+     */
+    public static final byte TOO_HARD = -3;
+    /**
+     * Time a hint solve may take in milliseconds before it gives up
+     */
+    public static final long TIME_LIMIT = 10_000;
+    /**
+     * Memory a hint solve may use in bytes before it gives up
+     */
+    public static final long MEMORY_LIMIT = 256L << 20;
+    private static final int UNSOLVABLE_PUSH = -1;
+    private static final int TOO_HARD_PUSH = -2;
+    private static final int CACHE_LIMIT = 1 << 16;
+    private final Solver m_solver;
+    private final Executor m_executor;
+    private final Map<Long, Integer> m_cache = new ConcurrentHashMap<>();
+    private AtomicBoolean m_cancelled = new AtomicBoolean(true);
+    private long m_pendingHash;
+    private volatile Runnable m_listener = () -> {
+    };
+
+    /**
+     * Create hint engine with an A* solver on its own daemon thread
+     */
+    public HintEngine() {
+        this(createSolver(), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hint-engine");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Create hint engine using a chosen solver and executor
+     *
+     * @param solver   the solver whose algorithm and limits are used per hint
+     * @param executor runs the solves, a single thread so solves never overlap
+     */
+    public HintEngine(Solver solver, Executor executor) {
+        m_solver = solver;
+        m_executor = executor;
+    }
+
+    /**
+     * Creates the solver used for hints, limited so a hard level cannot hang it
+     *
+     * @return new Solver instance
+     */
+    private static Solver createSolver() {
+        Solver solver = new Solver(Solver.Algorithm.A_STAR);
+        solver.setTimeLimit(TIME_LIMIT);
+        solver.setMemoryLimit(MEMORY_LIMIT);
+        return solver;
+    }
+
+    /**
+     * Setter for the listener told when a solve has stored new hints
+     * The listener runs on the solving thread
+     *
+     * @param listener overwrite current listener
+     */
+    public void setListener(Runnable listener) {
+        m_listener = listener;
+    }
+
+    /**
+     * Starts solving a position in the background unless its hint is known or pending
+     * A solve for another position is cancelled, walks that keep the keeper in its
+     * region have the same hash and leave the pending solve running
+     * The level is copied first, so the caller can keep moving while it solves
+     *
+     * @param level the current level
+     */
+    public void request(Level level) {
+        long hash = level.getHash();
+        if (!m_cancelled.get() && m_pendingHash == hash) {
+            return;
+        }
+        cancel();
+        if (level.isComplete() || m_cache.containsKey(hash)) {
+            return;
+        }
+        if (level.isDeadlocked()) {
+            store(hash, UNSOLVABLE_PUSH);
+            return;
+        }
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Level snapshot = level.copy();
+        m_cancelled = cancelled;
+        m_pendingHash = hash;
+        m_executor.execute(() -> solve(snapshot, hash, cancelled));
+    }
+
+    /**
+     * Stops the solve in flight, it stores nothing once cancelled
+     */
+    public void cancel() {
+        m_cancelled.set(true);
+    }
+
+    /**
+     * Getter for whether a solve is running or queued
+     *
+     * @return true if a requested solve has not finished or been cancelled
+     */
+    public boolean isPending() {
+        return !m_cancelled.get();
+    }
+
+    /**
+     * Getter for the next recommended move, without waiting
+     *
+     * @param level the current level
+     * @return direction code to move in, NOT_READY, NO_SOLUTION or TOO_HARD
+     */
+    public byte getHint(Level level) {
+        Integer push = m_cache.get(level.getHash());
+        if (push == null) {
+            return NOT_READY;
+        }
+        if (push == UNSOLVABLE_PUSH) {
+            return NO_SOLUTION;
+        }
+        if (push == TOO_HARD_PUSH) {
+            return TOO_HARD;
+        }
+        byte direction = (byte) (push & 3);
+        int stand = step(level, push >>> 2, Direction.opposite(direction));
+        return stand == level.getKeeperIndex() ? direction :
+                firstStep(level, stand);
+    }
+
+    /**
+     * Solves a copied position and caches the next push of every position on the way
+     *
+     * @param level     the copied level, owned by the solving thread
+     * @param hash      the state hash of the requested position
+     * @param cancelled flag that drops the result once set
+     */
+    private void solve(Level level, long hash, AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            return;
+        }
+        SolverResult result = m_solver.solve(level, cancelled);
+        if (cancelled.get()) {
+            return;
+        }
+
+        switch (result.getStatus()) {
+            case SOLVED -> storeSolution(level, result.getSolution());
+            case UNSOLVABLE, INVALID -> store(hash, UNSOLVABLE_PUSH);
+            default -> store(hash, TOO_HARD_PUSH);
+        }
+        cancelled.set(true);
+        m_listener.run();
+    }
+
+    /**
+     * Replays a solution on the copied level storing the push made from each position
+     * Positions differing only in where the keeper stands in its region share a push
+     *
+     * @param level    the copied level at the solved position
+     * @param solution the solution moves, pushes in upper case
+     */
+    private void storeSolution(Level level, String solution) {
+        for (int i = 0; i < solution.length(); i++) {
+            char move = solution.charAt(i);
+            byte direction = Direction.fromChar(
+                    Character.toLowerCase(move));
+            if (Character.isUpperCase(move)) {
+                store(level.getHash(), step(level, level.getKeeperIndex(),
+                        direction) << 2 | direction);
+            }
+            level.move(direction);
+        }
+    }
+
+    /**
+     * Caches the push for a position, starting over when the cache is full
+     *
+     * @param hash the state hash of the position
+     * @param push the crate cell times four plus the push direction
+     */
+    private void store(long hash, int push) {
+        if (m_cache.size() >= CACHE_LIMIT) {
+            m_cache.clear();
+        }
+        m_cache.put(hash, push);
+    }
+
+    /**
+     * Getter for the cell one step away from a cell
+     *
+     * @param level     the level the cell is in
+     * @param cell      the packed cell index
+     * @param direction the direction code
+     * @return the neighbouring cell index
+     */
+    private static int step(Level level, int cell, byte direction) {
+        return cell + Direction.rowDelta(direction) * level.getColumns() +
+                Direction.columnDelta(direction);
+    }
+
+    /**
+     * Breadth first search from the keeper for the first move of a shortest walk
+     *
+     * @param level  the current level
+     * @param target the cell the keeper walks to
+     * @return direction code of the first move or NOT_READY if the cell is unreachable
+     */
+    private static byte firstStep(Level level, int target) {
+        int keeper = level.getKeeperIndex();
+        int columns = level.getColumns();
+        byte[] first = new byte[level.getCellCount()];
+        boolean[] visited = new boolean[level.getCellCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        visited[keeper] = true;
+        queue.add(keeper);
+
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            if (cell == target) {
+                return first[cell];
+            }
+            for (byte direction = 0; direction < 4; direction++) {
+                int column = cell % columns + Direction.columnDelta(direction);
+                int next = step(level, cell, direction);
+                if (column < 0 || column >= columns || next < 0 ||
+                        next >= visited.length || visited[next] ||
+                        !level.isWalkableAt(next) || level.isCrateAt(next)) {
+                    continue;
+                }
+                visited[next] = true;
+                first[next] = cell == keeper ? direction : first[cell];
+                queue.add(next);
+            }
+        }
+        return NOT_READY;
+    }
+}
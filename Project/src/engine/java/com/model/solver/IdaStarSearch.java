@@ -0,0 +1,187 @@
+package com.model.solver;
+
+import com.model.engine.Zobrist;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Iterative deepening A* over push states
+ * Depth first passes with a rising push bound, each pass skipping states already
+ * reached with as few pushes, so memory stays at the size of the transposition table
+ *
+ * @author Zain Rashid
+ */
+final class IdaStarSearch extends Search {
+
+    private final int[] m_crates;
+    private int[] m_path = new int[64];
+    private int[][] m_successors = new int[64][];
+    private int[][] m_matchings = new int[64][];
+    private int m_nextBound;
+    private int m_pushCount;
+
+    /**
+     * Create IDA* search over a board
+     *
+     * @param board     the board to search
+     * @param solver    the solver holding the budgets
+     * @param table     the reset table of visited states, owned by this thread
+     * @param cancelled flag that stops the search once set
+     */
+    IdaStarSearch(Board board, Solver solver, TranspositionTable table,
+                  AtomicBoolean cancelled) {
+        super(board, solver, table, cancelled);
+        m_crates = board.getCrates();
+    }
+
+    @Override
+    int[] search() {
+        int estimate = estimate(m_crates, matching(0));
+        if (estimate == Board.UNREACHABLE) {
+            return null;
+        }
+        for (int crate : m_crates) {
+            occupy(crate);
+        }
+
+        int bound = estimate;
+        while (true) {
+            getTable().nextGeneration();
+            m_nextBound = Board.UNREACHABLE;
+            if (!pass(getBoard().getKeeper(), 0, estimate, bound,
+                    crateHash(m_crates))) {
+                if (isStopped() || m_nextBound == Board.UNREACHABLE) {
+                    return null;
+                }
+                bound = m_nextBound;
+                continue;
+            }
+            int[] pushes = new int[m_pushCount];
+            System.arraycopy(m_path, 0, pushes, 0, m_pushCount);
+            return pushes;
+        }
+    }
+
+    /**
+     * Depth first pass below the current bound
+     *
+     * @param keeper    the keeper cell
+     * @param pushes    pushes made since the start
+     * @param estimate  lower bound on pushes left
+     * @param bound     the most pushes allowed in this pass
+     * @param crateHash Zobrist hash of the crates
+     * @return true if solved, the path length is kept in m_pushCount, else false
+     */
+    private boolean pass(int keeper, int pushes, int estimate, int bound,
+                     long crateHash) {
+        if (pushes + estimate > bound) {
+            m_nextBound = Math.min(m_nextBound, pushes + estimate);
+            return false;
+        }
+        if (estimate == 0) {
+            m_pushCount = pushes;
+            return true;
+        }
+
+        long hash = crateHash ^ Zobrist.keeperKey(reach(keeper));
+        if (!getTable().storeIfLower(hash, pushes)) {
+            return false;
+        }
+        if (countExpansion()) {
+            return false;
+        }
+
+        int[] successors = successors(pushes);
+        int count = successors[0];
+        for (int s = 1; s <= count; s++) {
+            int i = successors[s] >>> 2;
+            byte direction = (byte) (successors[s] & 3);
+            int crate = m_crates[i];
+            int target = getBoard().getNeighbour(crate, direction);
+
+            m_crates[i] = target;
+            vacate(crate);
+            occupy(target);
+            path(pushes, (crate << 2) | direction);
+            int childEstimate = estimate(m_crates, i, m_matchings[pushes],
+                    matching(pushes + 1));
+            boolean found = childEstimate != Board.UNREACHABLE &&
+                    pass(crate, pushes + 1, childEstimate, bound, crateHash ^
+                            Zobrist.crateKey(crate) ^ Zobrist.crateKey(target));
+            vacate(target);
+            occupy(crate);
+            m_crates[i] = crate;
+
+            if (found) {
+                return true;
+            }
+            if (isStopped()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists the legal pushes of the reached state before the children overwrite it
+     * Kept per depth so no arrays are allocated once the deepest pass has run
+     *
+     * @param depth the current depth of the pass
+     * @return count followed by crate position times four plus direction
+     */
+    private int[] successors(int depth) {
+        if (depth >= m_successors.length) {
+            int[][] grown = new int[depth * 2][];
+            System.arraycopy(m_successors, 0, grown, 0, m_successors.length);
+            m_successors = grown;
+        }
+        if (m_successors[depth] == null) {
+            m_successors[depth] = new int[(m_crates.length << 2) + 1];
+        }
+        int[] successors = m_successors[depth];
+        int count = 0;
+        for (int i = 0; i < m_crates.length; i++) {
+            for (byte direction = 0; direction < 4; direction++) {
+                if (pushTarget(m_crates[i], direction) >= 0) {
+                    successors[++count] = (i << 2) | direction;
+                }
+            }
+        }
+        successors[0] = count;
+        return successors;
+    }
+
+    /**
+     * Getter for the matching kept for a depth, growing the depths when needed
+     * The state at each depth updates its matching from the one above it
+     *
+     * @param depth the depth of the state
+     * @return matching array owned by that depth
+     */
+    private int[] matching(int depth) {
+        if (depth >= m_matchings.length) {
+            int[][] grown = new int[depth * 2][];
+            System.arraycopy(m_matchings, 0, grown, 0, m_matchings.length);
+            m_matchings = grown;
+        }
+        if (m_matchings[depth] == null) {
+            m_matchings[depth] = newMatching();
+        }
+        return m_matchings[depth];
+    }
+
+    /**
+     * Stores a push on the path, growing it when needed
+     *
+     * @param depth the depth of the push
+     * @param push  the encoded push
+     */
+    private void path(int depth, int push) {
+        if (depth >= m_path.length) {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(m_path, 0, grown, 0, m_path.length);
+            m_path = grown;
+        }
+        m_path[depth] = push;
+    }
+}
@@ -0,0 +1,368 @@
+package com.model.solver;
+
+import com.model.engine.Direction;
+import com.model.engine.FloodFill;
+import com.model.engine.Zobrist;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntPredicate;
+
+/**
+ * Shared parts of the push searches, keeper reachability, budget and statistics
+ * A push is encoded as the crate cell times four plus the direction code
+ *
+ * @author Zain Rashid
+ */
+abstract class Search {
+
+    private static final int CHECK_MASK = 255;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private final Board m_board;
+    private final AssignmentBound m_bound;
+    private final FloodFill m_floodFill;
+    private final long[] m_occupied;
+    private final long[] m_open;
+    private final long[] m_reached;
+    private final int[] m_reachStamp;
+    private final int[] m_stack;
+    private final IntPredicate m_isOccupied;
+    private final TranspositionTable m_table;
+    private int m_stamp = 0;
+    private final long m_nodeLimit;
+    private final long m_deadline;
+    private final long m_memoryLimit;
+    private final AtomicBoolean m_cancelled;
+    private SolverResult.Status m_stopStatus;
+    private long m_nodesExpanded = 0;
+    private long m_memory = 0;
+    private long m_peakMemory = 0;
+
+    /**
+     * Create search over a board, taking its budgets from a solver
+     *
+     * @param board     the board to search
+     * @param solver    the solver holding the node, time and memory limits
+     * @param table     the reset table of visited states, owned by this thread
+     * @param cancelled flag that stops the search once set
+     */
+    Search(Board board, Solver solver, TranspositionTable table,
+           AtomicBoolean cancelled) {
+        m_board = board;
+        m_bound = new AssignmentBound(board);
+        m_nodeLimit = solver.getNodeLimit();
+        long timeLimit = solver.getTimeLimit();
+        m_deadline = timeLimit >= Long.MAX_VALUE / 1_000_000 ? NO_DEADLINE :
+                System.nanoTime() + timeLimit * 1_000_000;
+        m_memoryLimit = solver.getMemoryLimit();
+        m_cancelled = cancelled;
+        m_floodFill = new FloodFill(board.getColumns(), board.getCellCount());
+        m_occupied = new long[m_floodFill.getWordCount()];
+        m_open = new long[m_floodFill.getWordCount()];
+        m_reached = new long[m_floodFill.getWordCount()];
+        m_reachStamp = new int[board.getCellCount()];
+        m_stack = new int[board.getCellCount()];
+        m_isOccupied = this::isOccupied;
+        m_table = table;
+        addMemory(m_table.getMemoryBytes());
+    }
+
+    /**
+     * Runs the search from the start state of the board
+     *
+     * @return the pushes of an optimal solution or null if none was found
+     */
+    abstract int[] search();
+
+    /**
+     * Getter for why the search stopped early
+     *
+     * @return LIMIT_REACHED or CANCELLED, null if the search ran to the end
+     */
+    SolverResult.Status getStopStatus() {
+        return m_stopStatus;
+    }
+
+    /**
+     * Getter for whether a budget ran out or the search was cancelled
+     *
+     * @return true if the search must stop else false
+     */
+    boolean isStopped() {
+        return m_stopStatus != null;
+    }
+
+    /**
+     * Counts one node expansion, checking the time budget and cancel flag now and then
+     *
+     * @return true if the search must stop else false
+     */
+    boolean countExpansion() {
+        m_nodesExpanded++;
+        if (m_nodesExpanded >= m_nodeLimit) {
+            stop(SolverResult.Status.LIMIT_REACHED);
+        } else if ((m_nodesExpanded & CHECK_MASK) == 0) {
+            if (m_cancelled.get()) {
+                stop(SolverResult.Status.CANCELLED);
+            } else if (m_deadline != NO_DEADLINE &&
+                    System.nanoTime() - m_deadline > 0) {
+                stop(SolverResult.Status.LIMIT_REACHED);
+            }
+        }
+        return isStopped();
+    }
+
+    /**
+     * Stops the search, keeping the first reason given
+     *
+     * @param status why the search stopped
+     */
+    private void stop(SolverResult.Status status) {
+        if (m_stopStatus == null) {
+            m_stopStatus = status;
+        }
+    }
+
+    /**
+     * Tracks memory taken or released by the search structures
+     * Stops the search once the memory budget is passed
+     *
+     * @param bytes estimated bytes added, negative when released
+     */
+    void addMemory(long bytes) {
+        m_memory += bytes;
+        if (m_memory > m_peakMemory) {
+            m_peakMemory = m_memory;
+            if (m_peakMemory > m_memoryLimit) {
+                stop(SolverResult.Status.LIMIT_REACHED);
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of nodes expanded
+     *
+     * @return nodes expanded so far
+     */
+    long getNodesExpanded() {
+        return m_nodesExpanded;
+    }
+
+    /**
+     * Getter for the most memory the search structures were estimated to hold
+     * Estimated per search so it stays correct when many searches share a heap
+     *
+     * @return peak memory in bytes
+     */
+    long getPeakMemory() {
+        return m_peakMemory;
+    }
+
+    /**
+     * Getter for the table of visited states
+     *
+     * @return current TranspositionTable instance
+     */
+    TranspositionTable getTable() {
+        return m_table;
+    }
+
+    /**
+     * Getter for board
+     *
+     * @return current Board instance
+     */
+    Board getBoard() {
+        return m_board;
+    }
+
+    /**
+     * Marks a cell as holding a crate in the state being expanded
+     *
+     * @param cell the packed cell index
+     */
+    void occupy(int cell) {
+        m_occupied[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Marks a cell as free of crates in the state being expanded
+     *
+     * @param cell the packed cell index
+     */
+    void vacate(int cell) {
+        m_occupied[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Checks whether a cell holds a crate in the state being expanded
+     *
+     * @param cell the packed cell index
+     * @return true if the cell is occupied else false
+     */
+    boolean isOccupied(int cell) {
+        return FloodFill.contains(m_occupied, cell);
+    }
+
+    /**
+     * Creates space for the crate to diamond matching of one state
+     *
+     * @return new matching array
+     */
+    int[] newMatching() {
+        return new int[m_bound.getMatchingLength()];
+    }
+
+    /**
+     * Lower bound on the pushes left from a crate layout
+     *
+     * @param crates   the crate cells
+     * @param matching filled with the matching, so children can be updated from it
+     * @return pushes of the cheapest crate to diamond matching or UNREACHABLE
+     */
+    int estimate(int[] crates, int[] matching) {
+        return m_bound.estimate(crates, matching);
+    }
+
+    /**
+     * Lower bound on the pushes left after one push, updated from the parent matching
+     *
+     * @param crates   the crate cells after the push
+     * @param moved    the position of the pushed crate in crates
+     * @param parent   the matching of the state before the push
+     * @param matching filled with the matching of the state after the push
+     * @return pushes of the cheapest crate to diamond matching or UNREACHABLE
+     */
+    int estimate(int[] crates, int moved, int[] parent, int[] matching) {
+        return m_bound.estimate(crates, moved, parent, matching);
+    }
+
+    /**
+     * Zobrist hash of the crates alone
+     *
+     * @param crates the crate cells
+     * @return crate part of the state hash
+     */
+    static long crateHash(int[] crates) {
+        long hash = 0;
+        for (int crate : crates) {
+            hash ^= Zobrist.crateKey(crate);
+        }
+        return hash;
+    }
+
+    /**
+     * Flood fills the cells the keeper can walk to around the occupied cells
+     *
+     * @param keeper the keeper cell
+     * @return the smallest reachable cell, the normalized keeper position
+     */
+    int reach(int keeper) {
+        long[] walkable = m_board.getWalkable();
+        for (int word = 0; word < m_open.length; word++) {
+            m_open[word] = walkable[word] & ~m_occupied[word];
+        }
+        return m_floodFill.fill(m_open, keeper, m_reached);
+    }
+
+    /**
+     * Checks whether the last reach call got to a cell
+     *
+     * @param cell the packed cell index
+     * @return true if the keeper can walk to the cell else false
+     */
+    boolean isReachable(int cell) {
+        return cell >= 0 && FloodFill.contains(m_reached, cell);
+    }
+
+    /**
+     * Checks whether a crate can be pushed one step in the reached state
+     *
+     * @param crate     the crate cell
+     * @param direction the direction code of the push
+     * @return the cell the crate lands on or -1 if the push is illegal or deadlocks
+     */
+    int pushTarget(int crate, byte direction) {
+        int target = m_board.getNeighbour(crate, direction);
+        if (target < 0 || isOccupied(target) ||
+                m_board.getMinDistance(target) == Board.UNREACHABLE ||
+                !isReachable(m_board.getNeighbour(crate,
+                        Direction.opposite(direction)))) {
+            return -1;
+        }
+        vacate(crate);
+        occupy(target);
+        boolean deadlocked = m_board.getDeadlocks().isDeadlockAt(target,
+                m_isOccupied);
+        vacate(target);
+        occupy(crate);
+        return deadlocked ? -1 : target;
+    }
+
+    /**
+     * Expands a list of pushes into the full keeper moves between them
+     * Walks use shortest paths, pushes are written in upper case like MoveLog
+     *
+     * @param pushes the encoded pushes of a solution
+     * @return the solution as a move string
+     */
+    String toMoves(int[] pushes) {
+        int[] crates = m_board.getCrates();
+        Arrays.fill(m_occupied, 0);
+        for (int crate : crates) {
+            occupy(crate);
+        }
+        int[] parent = new int[m_board.getCellCount()];
+        StringBuilder moves = new StringBuilder();
+        StringBuilder walk = new StringBuilder();
+        int keeper = m_board.getKeeper();
+
+        for (int push : pushes) {
+            int crate = push >>> 2;
+            byte direction = (byte) (push & 3);
+            int stand = m_board.getNeighbour(crate,
+                    Direction.opposite(direction));
+            walk(keeper, stand, parent, walk);
+            moves.append(walk);
+            moves.append(Character.toUpperCase(Direction.toChar(direction)));
+            vacate(crate);
+            occupy(m_board.getNeighbour(crate, direction));
+            keeper = crate;
+        }
+        return moves.toString();
+    }
+
+    /**
+     * Breadth first shortest walk between two cells around the occupied cells
+     *
+     * @param from   the start cell
+     * @param to     the end cell
+     * @param parent scratch array with one slot per cell
+     * @param walk   cleared then filled with the walk in lower case
+     */
+    private void walk(int from, int to, int[] parent, StringBuilder walk) {
+        walk.setLength(0);
+        m_stamp++;
+        int head = 0;
+        int tail = 0;
+        m_stack[tail++] = from;
+        m_reachStamp[from] = m_stamp;
+
+        while (head < tail && m_reachStamp[to] != m_stamp) {
+            int cell = m_stack[head++];
+            for (byte direction = 0; direction < 4; direction++) {
+                int next = m_board.getNeighbour(cell, direction);
+                if (next >= 0 && !isOccupied(next) &&
+                        m_reachStamp[next] != m_stamp) {
+                    m_reachStamp[next] = m_stamp;
+                    parent[next] = (cell << 2) | direction;
+                    m_stack[tail++] = next;
+                }
+            }
+        }
+        for (int cell = to; cell != from; cell = parent[cell] >>> 2) {
+            walk.append(Direction.toChar((byte) (parent[cell] & 3)));
+        }
+        walk.reverse();
+    }
+}
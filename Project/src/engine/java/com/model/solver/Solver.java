@@ -0,0 +1,208 @@
+package com.model.solver;
+
+import com.model.engine.Level;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Push optimal Sokoban solver over a Level
+ * Searches push states, the crate cells plus the keeper normalized to the smallest
+ * cell of its reachable region, then joins the pushes with shortest keeper walks
+ *
+ * @author Zain Rashid
+ */
+public class Solver {
+
+    /**
+     * Search algorithm used by the solver
+     */
+    public enum Algorithm {
+        /**
+         * Best first search, fastest but keeps every state in memory
+         */
+        A_STAR,
+        /**
+         * Iterative deepening, repeats work but only keeps a table of visited states
+         */
+        IDA_STAR
+    }
+
+    /**
+     * Number of visited states the transposition table holds when no size is set
+     */
+    public static final long DEFAULT_TABLE_SIZE = 1 << 18;
+    private final Algorithm m_algorithm;
+    private final ThreadLocal<TranspositionTable> m_tables =
+            new ThreadLocal<>();
+    private long m_nodeLimit = Long.MAX_VALUE;
+    private long m_timeLimit = Long.MAX_VALUE;
+    private long m_memoryLimit = Long.MAX_VALUE;
+    private long m_tableSize = DEFAULT_TABLE_SIZE;
+
+    /**
+     * Create solver using A*
+     */
+    public Solver() {
+        this(Algorithm.A_STAR);
+    }
+
+    /**
+     * Create solver using a chosen algorithm
+     *
+     * @param algorithm the search algorithm
+     */
+    public Solver(Algorithm algorithm) {
+        m_algorithm = algorithm;
+    }
+
+    /**
+     * Getter for algorithm
+     *
+     * @return current search algorithm
+     */
+    public Algorithm getAlgorithm() {
+        return m_algorithm;
+    }
+
+    /**
+     * Getter for node limit
+     *
+     * @return the most nodes a solve may expand
+     */
+    public long getNodeLimit() {
+        return m_nodeLimit;
+    }
+
+    /**
+     * Setter for node limit
+     *
+     * @param nodeLimit overwrite the most nodes a solve may expand
+     */
+    public void setNodeLimit(long nodeLimit) {
+        m_nodeLimit = nodeLimit;
+    }
+
+    /**
+     * Getter for time limit
+     *
+     * @return the most milliseconds a solve may search for
+     */
+    public long getTimeLimit() {
+        return m_timeLimit;
+    }
+
+    /**
+     * Setter for time limit
+     *
+     * @param timeLimit overwrite the most milliseconds a solve may search for
+     */
+    public void setTimeLimit(long timeLimit) {
+        m_timeLimit = timeLimit;
+    }
+
+    /**
+     * Getter for memory limit
+     *
+     * @return the most bytes a solve may hold in its search structures
+     */
+    public long getMemoryLimit() {
+        return m_memoryLimit;
+    }
+
+    /**
+     * Setter for memory limit
+     *
+     * @param memoryLimit overwrite the most bytes a solve may hold in its search structures
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        m_memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Getter for table size
+     *
+     * @return the number of visited states each solve can remember
+     */
+    public long getTableSize() {
+        return m_tableSize;
+    }
+
+    /**
+     * Setter for table size, rounded up to a power of two
+     * The table lives off heap and counts towards the memory limit
+     *
+     * @param tableSize overwrite the number of visited states each solve can remember
+     */
+    public void setTableSize(long tableSize) {
+        m_tableSize = tableSize;
+    }
+
+    /**
+     * Solves a level from its current position, the level itself is not changed
+     *
+     * @param level the level to solve
+     * @return result with the solution and search statistics
+     */
+    public SolverResult solve(Level level) {
+        return solve(level, new AtomicBoolean());
+    }
+
+    /**
+     * Solves a level, stopping early with CANCELLED once a flag is set
+     * The solver holds settings plus one table per thread, so one solver can run on
+     * many threads and each thread reuses its table for every solve
+     *
+     * @param level     the level to solve
+     * @param cancelled flag another thread sets to stop the solve
+     * @return result with the solution and search statistics
+     */
+    public SolverResult solve(Level level, AtomicBoolean cancelled) {
+        long start = System.nanoTime();
+        Board board = new Board(level);
+        if (board.getKeeper() < 0 ||
+                board.getCrates().length != board.getDiamonds().length) {
+            return new SolverResult(SolverResult.Status.INVALID, null, -1, 0,
+                    System.nanoTime() - start, 0, null);
+        }
+        if (cancelled.get()) {
+            return new SolverResult(SolverResult.Status.CANCELLED, null, -1,
+                    0, System.nanoTime() - start, 0, null);
+        }
+
+        TranspositionTable table = getThreadTable();
+        Search search = m_algorithm == Algorithm.A_STAR ?
+                new AStarSearch(board, this, table, cancelled) :
+                new IdaStarSearch(board, this, table, cancelled);
+        int[] pushes = search.search();
+        if (pushes == null) {
+            return new SolverResult(search.isStopped() ?
+                    search.getStopStatus() :
+                    SolverResult.Status.UNSOLVABLE, null, -1,
+                    search.getNodesExpanded(), System.nanoTime() - start,
+                    search.getPeakMemory(), search.getTable());
+        }
+        String solution = search.toMoves(pushes);
+        return new SolverResult(SolverResult.Status.SOLVED, solution,
+                pushes.length, search.getNodesExpanded(),
+                System.nanoTime() - start, search.getPeakMemory(),
+                search.getTable());
+    }
+
+    /**
+     * Getter for the table of the calling thread, reset for a new solve
+     * The table is built on first use and again only when the table size changes
+     *
+     * @return the TranspositionTable owned by this thread
+     */
+    private TranspositionTable getThreadTable() {
+        TranspositionTable table = m_tables.get();
+        if (table == null || table.getCapacity() !=
+                TranspositionTable.capacityFor(m_tableSize)) {
+            table = new TranspositionTable(m_tableSize);
+            m_tables.set(table);
+        } else {
+            table.reset();
+        }
+        return table;
+    }
+}
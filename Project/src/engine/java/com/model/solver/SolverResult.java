@@ -0,0 +1,194 @@
+package com.model.solver;
+
+/**
+ * Outcome of solving one level, the solution if any and how much work it took
+ *
+ * @author Zain Rashid
+ */
+public final class SolverResult {
+
+    /**
+     * How a solve ended
+     */
+    public enum Status {
+        /**
+         * An optimal solution was found
+         */
+        SOLVED,
+        /**
+         * The whole state space was searched without a solution
+         */
+        UNSOLVABLE,
+        /**
+         * The level has no keeper or its crate and diamond counts differ
+         */
+        INVALID,
+        /**
+         * The node, time or memory limit ran out before the search finished
+         */
+        LIMIT_REACHED,
+        /**
+         * The solve was cancelled from another thread
+         */
+        CANCELLED
+    }
+
+    private final Status m_status;
+    private final String m_solution;
+    private final int m_pushCount;
+    private final long m_nodesExpanded;
+    private final long m_elapsedNanos;
+    private final long m_peakMemory;
+    private final double m_tableHitRate;
+    private final double m_tableLoad;
+    private final long m_tableCollisions;
+
+    /**
+     * Create result
+     *
+     * @param status        how the solve ended
+     * @param solution      the solution moves or null if there is none
+     * @param pushCount     the pushes in the solution or -1 if there is none
+     * @param nodesExpanded the number of states expanded
+     * @param elapsedNanos  the time taken in nanoseconds
+     * @param peakMemory    the peak estimated search memory in bytes
+     * @param table         the table of visited states or null if no search ran
+     */
+    SolverResult(Status status, String solution, int pushCount,
+                 long nodesExpanded, long elapsedNanos, long peakMemory,
+                 TranspositionTable table) {
+        m_status = status;
+        m_solution = solution;
+        m_pushCount = pushCount;
+        m_nodesExpanded = nodesExpanded;
+        m_elapsedNanos = elapsedNanos;
+        m_peakMemory = peakMemory;
+        m_tableHitRate = table == null ? 0 : table.getHitRate();
+        m_tableLoad = table == null ? 0 : table.getLoad();
+        m_tableCollisions = table == null ? 0 : table.getCollisions();
+    }
+
+    /**
+     * Getter for status
+     *
+     * @return how the solve ended
+     */
+    public Status getStatus() {
+        return m_status;
+    }
+
+    /**
+     * Getter for whether a solution was found
+     *
+     * @return true if solved else false
+     */
+    public boolean isSolved() {
+        return m_status == Status.SOLVED;
+    }
+
+    /**
+     * Getter for the solution in MoveLog format, lower case walks and upper case pushes
+     *
+     * @return solution moves or null if not solved
+     */
+    public String getSolution() {
+        return m_solution;
+    }
+
+    /**
+     * Getter for the number of pushes in the solution, which is the fewest possible
+     *
+     * @return push count or -1 if not solved
+     */
+    public int getPushCount() {
+        return m_pushCount;
+    }
+
+    /**
+     * Getter for the number of keeper moves in the solution
+     *
+     * @return move count or -1 if not solved
+     */
+    public int getMoveCount() {
+        return m_solution == null ? -1 : m_solution.length();
+    }
+
+    /**
+     * Getter for the number of states expanded
+     *
+     * @return nodes expanded
+     */
+    public long getNodesExpanded() {
+        return m_nodesExpanded;
+    }
+
+    /**
+     * Getter for the time the solve took
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return m_elapsedNanos;
+    }
+
+    /**
+     * Getter for the expansion rate
+     *
+     * @return nodes expanded per second
+     */
+    public double getNodesPerSecond() {
+        return m_elapsedNanos == 0 ? 0 :
+                m_nodesExpanded * 1_000_000_000.0 / m_elapsedNanos;
+    }
+
+    /**
+     * Getter for the most memory the search structures were estimated to hold
+     *
+     * @return peak memory in bytes
+     */
+    public long getPeakMemory() {
+        return m_peakMemory;
+    }
+
+    /**
+     * Getter for the share of visited state lookups that found their state
+     *
+     * @return transposition table hit rate between 0 and 1
+     */
+    public double getTableHitRate() {
+        return m_tableHitRate;
+    }
+
+    /**
+     * Getter for how full the visited state table was when the search ended
+     *
+     * @return transposition table load between 0 and 1
+     */
+    public double getTableLoad() {
+        return m_tableLoad;
+    }
+
+    /**
+     * Getter for the number of table slots probed that held another state
+     *
+     * @return transposition table collisions
+     */
+    public long getTableCollisions() {
+        return m_tableCollisions;
+    }
+
+    /**
+     * Getter for a one line summary of the result
+     *
+     * @return status, pushes, moves and effort in String form
+     */
+    @Override
+    public String toString() {
+        return String.format("%s pushes=%d moves=%d nodes=%d time=%.3fms " +
+                        "nodes/s=%.0f peak=%dKB hits=%.2f load=%.2f " +
+                        "collisions=%d", m_status, m_pushCount,
+                getMoveCount(), m_nodesExpanded, m_elapsedNanos / 1e6,
+                getNodesPerSecond(), m_peakMemory >> 10, m_tableHitRate,
+                m_tableLoad, m_tableCollisions);
+    }
+}
@@ -0,0 +1,299 @@
+package com.model.solver;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed size open addressed table of visited search states kept off the Java heap
+ * Each entry is a 64-bit state hash, the best push count it was reached with and
+ * the generation it was written in, 16 bytes in a direct ByteBuffer
+ * Lookups probe a short window of slots, when the window is full the entry from
+ * an older generation or else with the most pushes is replaced
+ * Not thread safe, each solving thread owns one table and reuses it between solves
+ *
+ * @author Zain Rashid
+ */
+public final class TranspositionTable {
+
+    /**
+     * Value returned by get when a state is not in the table
+     */
+    public static final int NOT_FOUND = -1;
+    private static final int ENTRY_BYTES = 16;
+    private static final int VALUE_OFFSET = 8;
+    private static final int GENERATION_OFFSET = 12;
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int PROBE_LIMIT = 8;
+    private static final long EMPTY_KEY = 0;
+    private static final long ZERO_HASH_KEY = 0x9E3779B97F4A7C15L;
+    private final ByteBuffer[] m_segments;
+    private final long m_capacity;
+    private final long m_mask;
+    private int m_generation = 1;
+    private long m_size = 0;
+    private long m_hits = 0;
+    private long m_misses = 0;
+    private long m_collisions = 0;
+    private long m_replacements = 0;
+
+    /**
+     * Create table holding at least a number of entries, rounded up to a power of two
+     *
+     * @param entries the least number of entries the table holds
+     */
+    public TranspositionTable(long entries) {
+        long capacity = capacityFor(entries);
+        m_capacity = capacity;
+        m_mask = capacity - 1;
+
+        long segmentEntries = Math.min(capacity, 1L << SEGMENT_SHIFT);
+        m_segments = new ByteBuffer[(int) (capacity / segmentEntries)];
+        for (int i = 0; i < m_segments.length; i++) {
+            m_segments[i] = ByteBuffer.allocateDirect((int) (segmentEntries *
+                    ENTRY_BYTES)).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Getter for the number of slots a table asked for a number of entries has
+     *
+     * @param entries the least number of entries the table holds
+     * @return capacity, a power of two
+     */
+    static long capacityFor(long entries) {
+        long capacity = Long.highestOneBit(Math.max(entries, PROBE_LIMIT));
+        return capacity < entries ? capacity << 1 : capacity;
+    }
+
+    /**
+     * Getter for the segment holding a slot
+     *
+     * @param slot the slot index
+     * @return the direct buffer the slot lives in
+     */
+    private ByteBuffer segment(long slot) {
+        return m_segments[(int) (slot >>> SEGMENT_SHIFT)];
+    }
+
+    /**
+     * Getter for the byte offset of a slot inside its segment
+     *
+     * @param slot the slot index
+     * @return offset in bytes
+     */
+    private static int offset(long slot) {
+        return (int) (slot & ((1L << SEGMENT_SHIFT) - 1)) * ENTRY_BYTES;
+    }
+
+    /**
+     * Maps a state hash to a stored key, zero marks an empty slot
+     *
+     * @param hash the state hash
+     * @return key that is never EMPTY_KEY
+     */
+    private static long key(long hash) {
+        return hash == EMPTY_KEY ? ZERO_HASH_KEY : hash;
+    }
+
+    /**
+     * Checks whether a slot holds an entry written in this generation
+     *
+     * @param buffer the segment of the slot
+     * @param offset the byte offset of the slot
+     * @return true if the slot is in use else false
+     */
+    private boolean isLive(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset) != EMPTY_KEY &&
+                buffer.getInt(offset + GENERATION_OFFSET) == m_generation;
+    }
+
+    /**
+     * Looks up the value stored for a state
+     *
+     * @param hash the state hash
+     * @return stored value or NOT_FOUND
+     */
+    public int get(long hash) {
+        long key = key(hash);
+        long slot = key & m_mask;
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            ByteBuffer buffer = segment(slot);
+            int offset = offset(slot);
+            if (!isLive(buffer, offset)) {
+                break;
+            }
+            if (buffer.getLong(offset) == key) {
+                m_hits++;
+                return buffer.getInt(offset + VALUE_OFFSET);
+            }
+            m_collisions++;
+            slot = (slot + 1) & m_mask;
+        }
+        m_misses++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Stores a value for a state unless an equal or lower value is already stored
+     * Used with push counts, so a state is only searched again when reached sooner
+     *
+     * @param hash  the state hash
+     * @param value the non negative value to store
+     * @return true if the value was stored, false if the state was already as good
+     */
+    public boolean storeIfLower(long hash, int value) {
+        long key = key(hash);
+        long slot = key & m_mask;
+        long victim = -1;
+        int victimValue = -1;
+
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            ByteBuffer buffer = segment(slot);
+            int offset = offset(slot);
+            if (!isLive(buffer, offset)) {
+                m_misses++;
+                m_size++;
+                write(buffer, offset, key, value);
+                return true;
+            }
+            if (buffer.getLong(offset) == key) {
+                m_hits++;
+                if (buffer.getInt(offset + VALUE_OFFSET) <= value) {
+                    return false;
+                }
+                buffer.putInt(offset + VALUE_OFFSET, value);
+                return true;
+            }
+            m_collisions++;
+            int stored = buffer.getInt(offset + VALUE_OFFSET);
+            if (stored > victimValue) {
+                victim = slot;
+                victimValue = stored;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+
+        m_misses++;
+        m_replacements++;
+        write(segment(victim), offset(victim), key, value);
+        return true;
+    }
+
+    /**
+     * Writes a whole entry into a slot
+     *
+     * @param buffer the segment of the slot
+     * @param offset the byte offset of the slot
+     * @param key    the stored key
+     * @param value  the stored value
+     */
+    private void write(ByteBuffer buffer, int offset, long key, int value) {
+        buffer.putLong(offset, key);
+        buffer.putInt(offset + VALUE_OFFSET, value);
+        buffer.putInt(offset + GENERATION_OFFSET, m_generation);
+    }
+
+    /**
+     * Forgets every entry without touching memory by starting a new generation
+     */
+    public void nextGeneration() {
+        m_generation++;
+        m_size = 0;
+        if (m_generation == 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Readies the table for a new solve, forgetting every entry and the statistics
+     */
+    public void reset() {
+        nextGeneration();
+        m_hits = 0;
+        m_misses = 0;
+        m_collisions = 0;
+        m_replacements = 0;
+    }
+
+    /**
+     * Zeroes every slot and the statistics
+     */
+    public void clear() {
+        for (ByteBuffer buffer : m_segments) {
+            for (int offset = 0; offset < buffer.capacity();
+                 offset += ENTRY_BYTES) {
+                buffer.putLong(offset, EMPTY_KEY);
+            }
+        }
+        m_generation = 1;
+        m_size = 0;
+        m_hits = 0;
+        m_misses = 0;
+        m_collisions = 0;
+        m_replacements = 0;
+    }
+
+    /**
+     * Getter for capacity
+     *
+     * @return number of slots
+     */
+    public long getCapacity() {
+        return m_capacity;
+    }
+
+    /**
+     * Getter for the number of entries in the current generation
+     *
+     * @return entries stored
+     */
+    public long getSize() {
+        return m_size;
+    }
+
+    /**
+     * Getter for how full the table is
+     *
+     * @return entries stored divided by capacity
+     */
+    public double getLoad() {
+        return (double) m_size / m_capacity;
+    }
+
+    /**
+     * Getter for the share of lookups and stores that found their state
+     *
+     * @return hits divided by hits plus misses
+     */
+    public double getHitRate() {
+        long lookups = m_hits + m_misses;
+        return lookups == 0 ? 0 : (double) m_hits / lookups;
+    }
+
+    /**
+     * Getter for the number of slots probed that held a different state
+     *
+     * @return collisions so far
+     */
+    public long getCollisions() {
+        return m_collisions;
+    }
+
+    /**
+     * Getter for the number of live entries thrown out to make room
+     *
+     * @return replacements so far
+     */
+    public long getReplacements() {
+        return m_replacements;
+    }
+
+    /**
+     * Getter for the off heap memory held by the table
+     *
+     * @return size in bytes
+     */
+    public long getMemoryBytes() {
+        return m_capacity * ENTRY_BYTES;
+    }
+}
@@ -3,6 +3,8 @@ package com.controller;
 import com.model.features.Music;
 import com.view.DialogView;
 import com.view.SettingsView;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.stage.Stage;
 
 /**
@@ -14,6 +16,8 @@ import javafx.stage.Stage;
 public class SettingsController {
 
     private Stage m_primaryStage;
+    @FXML
+    private Button rendererButton;
 
     /**
      * Setter for primary stage
@@ -22,6 +26,23 @@ public class SettingsController {
      */
     public void setStage(Stage primaryStage) {
         this.m_primaryStage = primaryStage;
+        setRendererText();
+    }
+
+    /**
+     * Switches the game board between the grid and the canvas renderer
+     */
+    public void callToggleRenderer() {
+        SettingsView.setCanvasRenderer(!SettingsView.isCanvasRenderer());
+        setRendererText();
+    }
+
+    /**
+     * Setter for renderer button text showing the selected renderer
+     */
+    private void setRendererText() {
+        rendererButton.setText(SettingsView.isCanvasRenderer() ?
+                "Board Renderer: Canvas" : "Board Renderer: Grid");
     }
 
     /**
@@ -0,0 +1,39 @@
+package com.model.engine;
+
+import java.awt.*;
+
+/**
+ * Draws a level onto the game board
+ * The whole level is drawn once from its LevelIterator, after that only the cells a
+ * move changed are drawn again
+ *
+ * @author Zain Rashid
+ */
+public interface BoardRenderer {
+
+    /**
+     * Draws every cell of a level, replacing whatever was shown
+     *
+     * @param level the level to show
+     */
+    void draw(Level level);
+
+    /**
+     * Draws one cell of the level last drawn again
+     *
+     * @param index the packed cell index
+     */
+    void drawCell(int index);
+
+    /**
+     * Getter for the cell index of a position given by a LevelIterator
+     * The iterator gives the row after the one it read, the board keeps its first row free
+     *
+     * @param location the position from getCurrentPosition
+     * @param columns  the number of columns of the level
+     * @return the packed cell index
+     */
+    static int cellIndex(Point location, int columns) {
+        return (location.x - 1) * columns + location.y;
+    }
+}
@@ -0,0 +1,100 @@
+package com.model.engine;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.paint.Paint;
+
+import java.awt.*;
+
+/**
+ * Renderer that draws the whole level into one Canvas
+ * Sprites are drawn with drawImage from the images GraphicObject holds, so the scene
+ * graph stays a single node however large the level is. Cells are left clear where
+ * nothing is drawn so the floor colour of the game grid shows through, as it does
+ * around the round cells of the GridRenderer
+ *
+ * @author Zain Rashid
+ */
+public class CanvasRenderer implements BoardRenderer {
+
+    private final GridPane m_board;
+    private final Canvas m_canvas = new Canvas();
+    private Level m_level;
+
+    /**
+     * Create renderer drawing onto a canvas inside the game grid
+     *
+     * @param board the game grid the canvas is added to
+     */
+    public CanvasRenderer(GridPane board) {
+        m_board = board;
+        GridPane.setConstraints(m_canvas, 0, 1);
+    }
+
+    @Override
+    public void draw(Level level) {
+        m_level = level;
+        int columns = level.getColumns();
+        m_canvas.setWidth(columns * GraphicObject.SIZE);
+        m_canvas.setHeight(level.getCellCount() / columns *
+                GraphicObject.SIZE);
+        m_canvas.getGraphicsContext2D().clearRect(0, 0, m_canvas.getWidth(),
+                m_canvas.getHeight());
+
+        Level.LevelIterator levelGridIterator =
+                (Level.LevelIterator) level.iterator();
+        while (levelGridIterator.hasNext()) {
+            GameObject object = levelGridIterator.next();
+            Point location = levelGridIterator.getCurrentPosition();
+            drawObject(object, BoardRenderer.cellIndex(location, columns));
+        }
+        if (m_board.getChildren().size() != 1 ||
+                m_board.getChildren().get(0) != m_canvas) {
+            m_board.getChildren().setAll(m_canvas);
+        }
+    }
+
+    @Override
+    public void drawCell(int index) {
+        if (m_level != null && index >= 0 &&
+                index < m_level.getCellCount()) {
+            drawObject(m_level.getTileAt(index), index);
+        }
+    }
+
+    /**
+     * Draws an object over a cell, shaped and filled as its GraphicObject would be
+     *
+     * @param object the object to draw
+     * @param index  the packed cell index
+     */
+    private void drawObject(GameObject object, int index) {
+        GraphicsContext graphics = m_canvas.getGraphicsContext2D();
+        int size = GraphicObject.SIZE;
+        double x = index % m_level.getColumns() * size;
+        double y = index / m_level.getColumns() * size;
+        graphics.clearRect(x, y, size, size);
+
+        Paint paint = GraphicObject.getPaint(object);
+        if (paint instanceof ImagePattern) {
+            graphics.drawImage(((ImagePattern) paint).getImage(), x, y, size,
+                    size);
+        } else if (object == GameObject.DIAMOND) {
+            graphics.setFill(paint);
+            graphics.fillRoundRect(x, y, size, size, GraphicObject.ARC,
+                    GraphicObject.ARC);
+        } else {
+            graphics.setFill(paint);
+            graphics.fillRect(x, y, size, size);
+        }
+
+        if (GameModel.isDebugActive()) {
+            graphics.setStroke(Color.RED);
+            graphics.setLineWidth(0.25);
+            graphics.strokeRect(x, y, size, size);
+        }
+    }
+}
@@ -1,22 +1,21 @@
 package com.model.engine;
 
 import com.controller.Main;
-import com.model.features.LeaderboardModel;
 import com.model.features.Music;
 import com.model.features.SaveGame;
 import com.model.features.Timer;
+import com.model.solver.HintEngine;
 import com.view.DialogView;
 import com.view.SettingsView;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 
-import java.awt.*;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Stack;
+import java.util.function.IntConsumer;
 
 /**
  * Controller for the Game FXML
@@ -27,17 +26,20 @@ import java.util.Stack;
 public class GameModel {
 
     private static final String GAME_NAME = "Sokoban";
-    private static boolean m_debug = false;
+    private final GameSession m_session = new GameSession();
     private final Timer m_timer = new Timer(this);
+    private final HintEngine m_hints = new HintEngine();
     private Movement movement = new Movement(this);
     private Stage m_primaryStage;
     private int m_levelCounter = 1;
     private LoadGame m_loadGame;
-    private Level m_currentLevel;
     private String m_previousLevelName;
-    private final Stack<Point> m_undoStack = new Stack<>();
+    private BoardRenderer m_renderer;
+    private Level m_shownLevel;
+    private final IntConsumer m_updateTile =
+            index -> m_renderer.drawCell(index);
     private boolean m_reset = false, m_gameComplete = false, m_levelComplete =
-            false;
+            false, m_hintShown = false;
     @FXML
     private GridPane gameGrid;
     @FXML
@@ -46,6 +48,17 @@ public class GameModel {
     private Label timer;
     @FXML
     private Label level;
+    @FXML
+    private Label deadlock;
+    @FXML
+    private Label hint;
+
+    /**
+     * GameModel constructor shows a hint as soon as its background solve finishes
+     */
+    public GameModel() {
+        m_hints.setListener(() -> Platform.runLater(this::runHint));
+    }
 
     /**
      * Getter for the game name
@@ -62,7 +75,7 @@ public class GameModel {
      * @return true if debug active else false
      */
     public static boolean isDebugActive() {
-        return m_debug;
+        return Level.isDebugActive();
     }
 
     /**
@@ -71,11 +84,25 @@ public class GameModel {
      * @param m_debug overwrite current debug value
      */
     public static void setDebug(boolean m_debug) {
-        GameModel.m_debug = m_debug;
+        Level.setDebug(m_debug);
     }
 
-    public Stack<Point> getUndoStack() {
-        return m_undoStack;
+    /**
+     * Getter for the state of this game
+     *
+     * @return current GameSession instance
+     */
+    public GameSession getSession() {
+        return m_session;
+    }
+
+    /**
+     * Getter for the game timer
+     *
+     * @return current Timer instance
+     */
+    public Timer getTimer() {
+        return m_timer;
     }
 
     /**
@@ -129,7 +156,7 @@ public class GameModel {
      * @return current value for current level
      */
     public Level getCurrentLevel() {
-        return m_currentLevel;
+        return m_session.getCurrentLevel();
     }
 
     /**
@@ -138,7 +165,7 @@ public class GameModel {
      * @param currentLevel overwrite current value for current level
      */
     public void setCurrentLevel(Level currentLevel) {
-        this.m_currentLevel = currentLevel;
+        m_session.setCurrentLevel(currentLevel);
     }
 
     /**
@@ -223,16 +250,16 @@ public class GameModel {
      * @return the next level loaded from level array
      */
     public Level getNextLevel() {
-        if (m_currentLevel == null) {
-            return LoadGame.getLevels().get(0);
+        if (getCurrentLevel() == null) {
+            return m_session.getLevels().get(0);
         }
 
-        int currentLevelIndex = m_currentLevel.getIndex();
+        int currentLevelIndex = getCurrentLevel().getIndex();
 
         m_previousLevelName =
-                LoadGame.getLevelNameList().get(currentLevelIndex - 1);
-        if (currentLevelIndex < LoadGame.getLevels().size()) {
-            return LoadGame.getLevels().get(currentLevelIndex);
+                m_session.getLevelNameList().get(currentLevelIndex - 1);
+        if (currentLevelIndex < m_session.getLevels().size()) {
+            return m_session.getLevels().get(currentLevelIndex);
 
         }
         m_gameComplete = true;
@@ -245,8 +272,8 @@ public class GameModel {
      * @throws IOException for reload grid function
      */
     public void toggleDebug() throws IOException {
-        m_debug = !m_debug;
-        reloadGrid();
+        setDebug(!isDebugActive());
+        redrawGrid();
     }
 
     /**
@@ -288,21 +315,85 @@ public class GameModel {
     }
 
     /**
-     * Reload grid with use of the current level iterator
+     * Warns the player as soon as the current level can no longer be completed
+     * Levels that failed the check made when they were built are flagged instead
+     */
+    public void runDeadlockWarning() {
+        MapSetIndex mapSet = m_session.getMapSet();
+        LevelCheck check = mapSet == null ? null :
+                mapSet.getCheck(getCurrentLevel());
+        if (check != null && !check.isValid()) {
+            deadlock.setText("Invalid level: " + check.getErrors().get(0));
+        } else if (check != null && !check.isPlayable()) {
+            deadlock.setText("Level cannot be completed");
+        } else {
+            deadlock.setText(getCurrentLevel().isDeadlocked() ?
+                    "Deadlocked! Undo or reset" : "");
+        }
+    }
+
+    /**
+     * Getter for the hint engine
+     *
+     * @return current HintEngine instance
+     */
+    public HintEngine getHints() {
+        return m_hints;
+    }
+
+    /**
+     * Shows the hint for the current position, or that it is still being worked out
+     */
+    public void showHint() {
+        m_hintShown = true;
+        runHint();
+    }
+
+    /**
+     * Hides the hint, the solve carries on until a new position is requested
+     */
+    public void hideHint() {
+        m_hintShown = false;
+    }
+
+    /**
+     * Setter for hint label which outputs to Game FXML
+     */
+    public void runHint() {
+        Level currentLevel = getCurrentLevel();
+        if (!m_hintShown || currentLevel == null) {
+            hint.setText("");
+            return;
+        }
+
+        byte move = m_hints.getHint(currentLevel);
+        switch (move) {
+            case HintEngine.NOT_READY -> hint.setText("Hint: thinking...");
+            case HintEngine.NO_SOLUTION -> hint.setText("Hint: no solution");
+            case HintEngine.TOO_HARD -> hint.setText("Hint: too hard");
+            case Direction.UP -> hint.setText("Hint: up");
+            case Direction.RIGHT -> hint.setText("Hint: right");
+            case Direction.DOWN -> hint.setText("Hint: down");
+            case Direction.LEFT -> hint.setText("Hint: left");
+        }
+    }
+
+    /**
+     * Reload grid for the current state of the current level
+     * The level is drawn in full once, after a move only the cells the move changed and
+     * the keeper, whose sprite animates, are drawn again
      *
      * @throws IOException when incorrect scoreboard file called
      */
     public void reloadGrid() throws IOException {
-        DialogView m_dialogView = new DialogView
-                (m_primaryStage, this, m_timer);
-
-        if (Movement.isMoveComplete()) {
+        if (m_session.isMoveComplete()) {
             movement.setMoveLabel();
         }
 
         if (isLevelComplete() && !isGameComplete()) {
-            LeaderboardModel.calcTotalGameMoveCount(Movement.getMovesCount());
-            m_dialogView.showLevelCompleteMessage();
+            m_session.calcTotalGameMoveCount(m_session.getMoveCount());
+            new DialogView(m_primaryStage, this, m_timer)
+                    .showLevelCompleteMessage();
             movement.resetMoveCounter();
             movement.setMoveLabel();
             m_levelComplete = false;
@@ -310,36 +401,52 @@ public class GameModel {
         }
 
         if (isGameComplete()) {
-            LeaderboardModel.calcTotalGameMoveCount(Movement.getMovesCount());
-            m_dialogView.showVictoryMessage();
+            m_session.calcTotalGameMoveCount(m_session.getMoveCount());
+            new DialogView(m_primaryStage, this, m_timer)
+                    .showVictoryMessage();
             m_timer.stopImageTimer();
             return;
         }
 
         Level currentLevel = getCurrentLevel();
-        Level.LevelIterator levelGridIterator =
-                (Level.LevelIterator) currentLevel.iterator();
-        gameGrid.getChildren().clear();
         runLevelCounter();
-
-        while (levelGridIterator.hasNext()) {
-            addObjectToGrid(levelGridIterator.next(),
-                    levelGridIterator.getCurrentPosition());
+        runDeadlockWarning();
+        m_hints.request(currentLevel);
+        runHint();
+
+        if (currentLevel != m_shownLevel ||
+                !currentLevel.drainChangedCells(m_updateTile)) {
+            buildGrid(currentLevel);
+        } else {
+            m_renderer.drawCell(currentLevel.getKeeperIndex());
         }
-        gameGrid.autosize();
-        m_primaryStage.sizeToScene();
     }
 
     /**
-     * Adds an object to the specified grid position.
-     * Converts Game object into a rectangle adding it to the specified location
+     * Draws the whole level again, for when the look of the objects or the renderer
+     * has changed
      *
-     * @param gameObject game object to be added into the grid
-     * @param location   location where the game object will be added
+     * @throws IOException when incorrect scoreboard file called
      */
-    public void addObjectToGrid(GameObject gameObject, Point location) {
-        GraphicObject graphicObject = new GraphicObject(gameObject);
-        gameGrid.add(graphicObject, location.y, location.x);
+    public void redrawGrid() throws IOException {
+        m_shownLevel = null;
+        reloadGrid();
+    }
+
+    /**
+     * Draws the whole of a level with the renderer chosen in the settings
+     *
+     * @param level the level to show
+     */
+    private void buildGrid(Level level) {
+        level.drainChangedCells(index -> {
+        });
+        m_renderer = SettingsView.isCanvasRenderer() ?
+                new CanvasRenderer(gameGrid) : new GridRenderer(gameGrid);
+        m_renderer.draw(level);
+        m_shownLevel = level;
+        gameGrid.autosize();
+        m_primaryStage.sizeToScene();
     }
 
     /**
@@ -352,14 +459,13 @@ public class GameModel {
         m_timer.stopTimer();
         m_reset = true;
 
-        if (LoadGame.isDefaultGameRunning()) {
+        if (m_loadGame.isDefaultGameRunning()) {
             InputStream in = getClass().getClassLoader().
                     getResourceAsStream("SampleGame.skb");
             m_loadGame.initializeGame(in);
         }
-        if (LoadGame.isLoadGameRunning()) {
-            m_loadGame.initializeGame
-                    (new FileInputStream(m_loadGame.getSaveFile()));
+        if (m_loadGame.isLoadGameRunning()) {
+            m_loadGame.initializeGame(m_loadGame.getSaveFile());
         }
     }
 
@@ -375,7 +481,7 @@ public class GameModel {
      */
     public void callSaveGame() {
         SaveGame saveGame = new SaveGame(this, m_primaryStage,
-                m_currentLevel);
+                getCurrentLevel());
         saveGame.saveGame();
     }
 
@@ -398,39 +504,23 @@ public class GameModel {
     }
 
     /**
-     * Call undo function
+     * Call undo function, reverses the last move of the current level
      */
     public void undo() throws IOException {
-        if(m_undoStack.isEmpty()){
-            return;
+        if (m_session.undo()) {
+            movement.setMoveLabel();
+            reloadGrid();
         }
-        Point delta = m_undoStack.pop();
-        Point reverseDelta = new Point((int)(delta.getX()-1), (int)(delta.getY()-1));
-
-        Point keeperPosition = m_currentLevel.getKeeperPosition();
-        GameObject keeper = m_currentLevel.getObjectAt(keeperPosition);
-        Point targetObjectPoint = GameGrid.translatePoint(keeperPosition, delta);
-        GameObject keeperTarget = m_currentLevel.getObjectAt(targetObjectPoint);
-
-        switch (keeperTarget) {
-            case CRATE -> {
-/*                GameObject crateTarget = m_currentLevel.getTargetObject(
-                        targetObjectPoint, delta);*/
-                m_currentLevel.moveGameObjectBy(keeper, keeperPosition, reverseDelta);
-                m_currentLevel.moveGameObjectBy(keeperTarget, targetObjectPoint,
-                        reverseDelta);
-            }
-            case WALL, FLOOR -> m_currentLevel.moveGameObjectBy(keeper, keeperPosition, reverseDelta);
-            default -> {
-                LoadGame.getLogger().severe("The object to be moved was not a recognised " +
-                        "com.GameObject.");
-                throw new AssertionError("This should not have happened. " +
-                        "Report this problem to the developer.");
-            }
+    }
+
+    /**
+     * Call redo function, plays the last undone move again
+     */
+    public void redo() throws IOException {
+        if (movement.redo()) {
+            movement.setMoveLabel();
+            reloadGrid();
         }
-        keeperPosition.translate((int) reverseDelta.getX(), (int) reverseDelta.getY());
-        Movement.setMoveCount(Movement.getMovesCount()-1);
-        reloadGrid();
     }
 
     /**
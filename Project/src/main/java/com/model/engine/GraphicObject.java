@@ -6,9 +6,11 @@ import javafx.animation.Timeline;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -19,12 +21,37 @@ import java.util.Objects;
  */
 public class GraphicObject extends Rectangle {
 
+    /**
+     * Width and height of a grid cell in pixels
+     */
+    public static final int SIZE = 30;
+    /**
+     * Corner arc of the round diamond and keeper cells
+     */
+    public static final int ARC = 50;
+
     private static String m_imageWall, m_imageCrate, m_imageDiamond,
             m_imageKeeper, m_imageFloor, m_imageCrateOnDiamond;
 
     private static Image m_wall, m_crate, m_diamond, m_keeper, m_floor,
             m_crateOnDiamond;
 
+    private static final String DEFAULT_WALL = "Black Wall.png",
+            DEFAULT_CRATE = "Black Crate.png",
+            DEFAULT_DIAMOND = "Black Diamond.png",
+            DEFAULT_KEEPER = "stoppedBackward.png",
+            DEFAULT_FLOOR = "Grey Floor.png",
+            DEFAULT_CRATE_ON_DIAMOND = "blackCrateDiamond.png";
+    private static final String[] KEEPER_FRAMES = {"movingBackward.png",
+            "movingBackward2.png", "movingForward.png", "movingForward2.png",
+            "movingLeft.png", "movingRight.png", "stoppedBackward.png",
+            "stoppedForward.png", "stoppedLeft.png", "stoppedRight.png"};
+
+    private static final Paint[] m_paints =
+            new Paint[GameObject.values().length];
+
+    private FadeTransition m_fadeTransition;
+
     /**
      * Empty constructor used when parameters are not needed
      */
@@ -37,32 +64,36 @@ public class GraphicObject extends Rectangle {
      * @param obj game object element
      */
     public GraphicObject(GameObject obj) {
+        this.setHeight(SIZE);
+        this.setWidth(SIZE);
+        setObject(obj);
+    }
 
-        switch (obj) {
-            case EMPTY -> this.setFill(Color.TAN);
-            case WALL -> setWall();
-            case CRATE -> setCrate();
-            case DIAMOND -> setDiamond();
-            case KEEPER -> this.setFill(new ImagePattern(m_keeper));
-            case FLOOR -> setFloor();
-            case CRATE_ON_DIAMOND -> setCrateOnDiamond();
-            default -> {
-                String message =
-                        "Error in Level constructor. Object not recognized.";
-                LoadGame.getLogger().severe(message);
-                throw new AssertionError(message);
-            }
+    /**
+     * Changes the object shown so a grid cell can keep its node between moves
+     *
+     * @param obj game object element
+     */
+    public void setObject(GameObject obj) {
+        if (m_fadeTransition != null) {
+            m_fadeTransition.stop();
+            m_fadeTransition = null;
+            this.setOpacity(1.0);
         }
-        this.setHeight(30);
-        this.setWidth(30);
 
-        if (obj == GameObject.DIAMOND || obj == GameObject.KEEPER) {
-            this.setArcHeight(50);
-            this.setArcWidth(50);
+        this.setFill(getPaint(obj));
+        if (obj == GameObject.DIAMOND && GameModel.isDebugActive()) {
+            fadeTransition();
         }
+
+        boolean round = obj == GameObject.DIAMOND || obj == GameObject.KEEPER;
+        this.setArcHeight(round ? ARC : 0);
+        this.setArcWidth(round ? ARC : 0);
         if (GameModel.isDebugActive()) {
             this.setStroke(Color.RED);
             this.setStrokeWidth(0.25);
+        } else {
+            this.setStroke(null);
         }
     }
 
@@ -72,7 +103,10 @@ public class GraphicObject extends Rectangle {
      * @param imageWall overwrite current wall image
      */
     public static void setImageWall(String imageWall) {
+        SpriteCache.changeSkin(Objects.requireNonNullElse(m_imageWall,
+                DEFAULT_WALL), imageWall);
         GraphicObject.m_imageWall = imageWall;
+        invalidatePaints();
     }
 
     /**
@@ -81,7 +115,10 @@ public class GraphicObject extends Rectangle {
      * @param imageCrate overwrite current crate image
      */
     public static void setImageCrate(String imageCrate) {
+        SpriteCache.changeSkin(Objects.requireNonNullElse(m_imageCrate,
+                DEFAULT_CRATE), imageCrate);
         GraphicObject.m_imageCrate = imageCrate;
+        invalidatePaints();
     }
 
     /**
@@ -90,7 +127,10 @@ public class GraphicObject extends Rectangle {
      * @param imageDiamond overwrite current diamond image
      */
     public static void setImageDiamond(String imageDiamond) {
+        SpriteCache.changeSkin(Objects.requireNonNullElse(m_imageDiamond,
+                DEFAULT_DIAMOND), imageDiamond);
         GraphicObject.m_imageDiamond = imageDiamond;
+        invalidatePaints();
     }
 
     /**
@@ -99,7 +139,10 @@ public class GraphicObject extends Rectangle {
      * @param imageCrateOnDiamond overwrite current crate on diamond image
      */
     public static void setImageCrateOnDiamond(String imageCrateOnDiamond) {
+        SpriteCache.changeSkin(Objects.requireNonNullElse(m_imageCrateOnDiamond,
+                DEFAULT_CRATE_ON_DIAMOND), imageCrateOnDiamond);
         GraphicObject.m_imageCrateOnDiamond = imageCrateOnDiamond;
+        invalidatePaints();
     }
 
     /**
@@ -117,7 +160,10 @@ public class GraphicObject extends Rectangle {
      * @param imageFloor overwrite current floor image
      */
     public static void setImageFloor(String imageFloor) {
+        SpriteCache.changeSkin(Objects.requireNonNullElse(m_imageFloor,
+                DEFAULT_FLOOR), imageFloor);
         GraphicObject.m_imageFloor = imageFloor;
+        invalidatePaints();
     }
 
     /**
@@ -131,39 +177,55 @@ public class GraphicObject extends Rectangle {
 
     /**
      * Sets image for each object depending on what the current object images are
+     * Images come from the SpriteCache, the keeper frames are all decoded the first time
      */
     public static void createImage() {
-        m_wall = new Image(Objects.requireNonNullElse
-                (m_imageWall, "Black Wall.png"));
-        m_crate = new Image(Objects.requireNonNullElse
-                (m_imageCrate, "Black Crate.png"));
-        m_diamond = new Image(Objects.requireNonNullElse
-                (m_imageDiamond, "Black Diamond.png"));
-        m_keeper = new Image(Objects.requireNonNullElse
-                (m_imageKeeper, "stoppedBackward.png"));
-        m_floor = new Image(Objects.requireNonNullElse
-                (m_imageFloor, "Grey Floor.png"));
-        m_crateOnDiamond = new Image(Objects.requireNonNullElse
-                (m_imageCrateOnDiamond, "blackCrateDiamond.png"));
+        SpriteCache.preload(KEEPER_FRAMES);
+        m_wall = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageWall, DEFAULT_WALL));
+        m_crate = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageCrate, DEFAULT_CRATE));
+        m_diamond = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageDiamond, DEFAULT_DIAMOND));
+        m_floor = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageFloor, DEFAULT_FLOOR));
+        m_crateOnDiamond = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageCrateOnDiamond, DEFAULT_CRATE_ON_DIAMOND));
+        invalidatePaints();
+        updateKeeperImage();
+    }
+
+    /**
+     * Sets the keeper image to the current animation frame
+     */
+    private static void updateKeeperImage() {
+        Image keeper = SpriteCache.get(Objects.requireNonNullElse
+                (m_imageKeeper, DEFAULT_KEEPER));
+        if (keeper != m_keeper) {
+            m_keeper = keeper;
+            m_paints[GameObject.KEEPER.ordinal()] = null;
+        }
     }
 
     /**
      * Sets stopped animation image depending on the last key pressed by the user
+     *
+     * @param lastDirection direction code of the last key pressed
      */
-    public void setStoppedAnimation() {
-        if (Movement.getM_counter() == 1) {
+    public void setStoppedAnimation(byte lastDirection) {
+        if (lastDirection == Direction.UP) {
             m_imageKeeper = ("stoppedForward.png");
         }
-        if (Movement.getM_counter() == 2) {
+        if (lastDirection == Direction.RIGHT) {
             m_imageKeeper = ("stoppedRight.png");
         }
-        if (Movement.getM_counter() == 3) {
+        if (lastDirection == Direction.DOWN) {
             m_imageKeeper = ("stoppedBackward.png");
         }
-        if (Movement.getM_counter() == 4) {
+        if (lastDirection == Direction.LEFT) {
             m_imageKeeper = ("stoppedLeft.png");
         }
-        createImage();
+        updateKeeperImage();
     }
 
     /**
@@ -175,7 +237,7 @@ public class GraphicObject extends Rectangle {
         } else {
             m_imageKeeper = "movingForward.png";
         }
-        createImage();
+        updateKeeperImage();
     }
 
     /**
@@ -188,7 +250,7 @@ public class GraphicObject extends Rectangle {
         } else {
             m_imageKeeper = "stoppedRight.png";
         }
-        createImage();
+        updateKeeperImage();
     }
 
     /**
@@ -202,7 +264,7 @@ public class GraphicObject extends Rectangle {
         } else {
             m_imageKeeper = "movingBackward.png";
         }
-        createImage();
+        updateKeeperImage();
     }
 
     /**
@@ -215,85 +277,84 @@ public class GraphicObject extends Rectangle {
         } else {
             m_imageKeeper = "stoppedLeft.png";
         }
-        createImage();
-    }
-
-    /**
-     * Sets wall to an image, colour or default color depending on what is last selected
-     */
-    public void setWall() {
-        if (SettingsView.getGlobalWallCounter() == 0) {
-            this.setFill(Color.BLACK);
-        }
-        if (SettingsView.getGlobalWallCounter() == 1) {
-            this.setFill(SettingsView.getUserWallColor());
-        }
-        if (SettingsView.getGlobalWallCounter() == 2) {
-            this.setFill(new ImagePattern(m_wall));
-        }
+        updateKeeperImage();
     }
 
     /**
-     * Sets crate to an image, colour or default color depending on what is last selected
+     * Getter for how an object is filled, an image, a colour or the default colour
+     * depending on what is last selected
+     * Paints are immutable so one is shared by every cell of the same object until the
+     * images or colours change
+     *
+     * @param obj game object element
+     * @return the paint for the object
      */
-    public void setCrate() {
-        if (SettingsView.getGlobalCrateCounter() == 0) {
-            this.setFill(Color.ORANGE);
-        }
-        if (SettingsView.getGlobalCrateCounter() == 1) {
-            this.setFill(SettingsView.getUserCrateColor());
-        }
-        if (SettingsView.getGlobalCrateCounter() == 2) {
-            this.setFill(new ImagePattern(m_crate));
+    static Paint getPaint(GameObject obj) {
+        Paint paint = m_paints[obj.ordinal()];
+        if (paint == null) {
+            paint = createPaint(obj);
+            m_paints[obj.ordinal()] = paint;
         }
+        return paint;
     }
 
     /**
-     * Sets diamond to an image, colour or default color depending on what is last selected
+     * Drops the shared paints so they are made again from the current images and colours
      */
-    public void setDiamond() {
-        if (SettingsView.getGlobalDiamondCounter() == 0) {
-            this.setFill(Color.DEEPSKYBLUE);
-        }
-        if (SettingsView.getGlobalDiamondCounter() == 1) {
-            this.setFill(SettingsView.getUserDiamondColor());
-        }
-        if (SettingsView.getGlobalDiamondCounter() == 2) {
-            this.setFill(new ImagePattern(m_diamond));
-        }
-        if (GameModel.isDebugActive()) {
-            fadeTransition();
-        }
+    public static void invalidatePaints() {
+        Arrays.fill(m_paints, null);
     }
 
     /**
-     * Sets floor to an image, colour or default color depending on what is last selected
+     * Creates the paint for an object from the current images and colours
+     *
+     * @param obj game object element
+     * @return new paint for the object
      */
-    public void setFloor() {
-        if (SettingsView.getGlobalFloorCounter() == 0) {
-            this.setFill(Color.WHITE);
-        }
-        if (SettingsView.getGlobalFloorCounter() == 1) {
-            this.setFill(SettingsView.getUserFloorColor());
-        }
-        if (SettingsView.getGlobalFloorCounter() == 2) {
-            this.setFill(new ImagePattern(m_floor));
-        }
+    private static Paint createPaint(GameObject obj) {
+        return switch (obj) {
+            case EMPTY -> Color.TAN;
+            case WALL -> choosePaint(SettingsView.getGlobalWallCounter(),
+                    Color.BLACK, SettingsView.getUserWallColor(), m_wall);
+            case CRATE -> choosePaint(SettingsView.getGlobalCrateCounter(),
+                    Color.ORANGE, SettingsView.getUserCrateColor(), m_crate);
+            case DIAMOND -> choosePaint(
+                    SettingsView.getGlobalDiamondCounter(), Color.DEEPSKYBLUE,
+                    SettingsView.getUserDiamondColor(), m_diamond);
+            case KEEPER -> new ImagePattern(m_keeper);
+            case FLOOR -> choosePaint(SettingsView.getGlobalFloorCounter(),
+                    Color.WHITE, SettingsView.getUserFloorColor(), m_floor);
+            case CRATE_ON_DIAMOND -> choosePaint(
+                    SettingsView.getGlobalCrateDiamondCounter(),
+                    Color.DARKCYAN, SettingsView.getUserCrateDiamondColor(),
+                    m_crateOnDiamond);
+            default -> {
+                String message =
+                        "Error in Level constructor. Object not recognized.";
+                LoadGame.getLogger().severe(message);
+                throw new AssertionError(message);
+            }
+        };
     }
 
     /**
-     * Sets crate on diamond to an image, colour or default color depending on what is last selected
+     * Picks the paint for an object from its settings counter
+     *
+     * @param counter  0 for the default colour, 1 for the chosen colour, 2 for the image
+     * @param standard the default colour
+     * @param chosen   the colour the user chose
+     * @param image    the image the user chose
+     * @return the paint for the counter
      */
-    public void setCrateOnDiamond() {
-        if (SettingsView.getGlobalCrateDiamondCounter() == 0) {
-            this.setFill(Color.DARKCYAN);
-        }
-        if (SettingsView.getGlobalCrateDiamondCounter() == 1) {
-            this.setFill(SettingsView.getUserCrateDiamondColor());
+    private static Paint choosePaint(int counter, Color standard,
+                                     Color chosen, Image image) {
+        if (counter == 1) {
+            return chosen;
         }
-        if (SettingsView.getGlobalCrateDiamondCounter() == 2) {
-            this.setFill(new ImagePattern(m_crateOnDiamond));
+        if (counter == 2) {
+            return new ImagePattern(image);
         }
+        return standard;
     }
 
     /**
@@ -307,5 +368,6 @@ public class GraphicObject extends Rectangle {
         ft.setCycleCount(Timeline.INDEFINITE);
         ft.setAutoReverse(true);
         ft.play();
+        m_fadeTransition = ft;
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.model.engine;
+
+import javafx.scene.layout.GridPane;
+
+import java.awt.*;
+
+/**
+ * Renderer that lays out one GraphicObject per cell on a GridPane
+ * The nodes are kept between moves and only restyled when their cell changes
+ *
+ * @author Zain Rashid
+ */
+public class GridRenderer implements BoardRenderer {
+
+    private final GridPane m_board;
+    private GraphicObject[] m_tiles = new GraphicObject[0];
+    private Level m_level;
+
+    /**
+     * Create renderer drawing onto a grid
+     *
+     * @param board the game grid the cells are added to
+     */
+    public GridRenderer(GridPane board) {
+        m_board = board;
+    }
+
+    @Override
+    public void draw(Level level) {
+        m_level = level;
+        m_tiles = new GraphicObject[level.getCellCount()];
+        Level.LevelIterator levelGridIterator =
+                (Level.LevelIterator) level.iterator();
+        while (levelGridIterator.hasNext()) {
+            GraphicObject tile = new GraphicObject(levelGridIterator.next());
+            Point location = levelGridIterator.getCurrentPosition();
+            GridPane.setConstraints(tile, location.y, location.x);
+            m_tiles[BoardRenderer.cellIndex(location, level.getColumns())] =
+                    tile;
+        }
+        m_board.getChildren().setAll(m_tiles);
+    }
+
+    @Override
+    public void drawCell(int index) {
+        if (index >= 0 && index < m_tiles.length) {
+            m_tiles[index].setObject(m_level.getTileAt(index));
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package com.model.engine;
 
-import com.model.features.LeaderboardModel;
 import com.model.features.Timer;
 import com.view.DialogView;
+import javafx.application.Platform;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
 import java.io.*;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Holds all methods which load an initial game
@@ -19,14 +20,9 @@ import java.util.NoSuchElementException;
  */
 public class LoadGame {
 
-    private static final ArrayList<String> m_levelNameList = new ArrayList<>();
-    private static final List<String> m_getGrid = new ArrayList<>();
-    private static String m_mapSetName;
-    private static boolean m_loadGameRunning;
-    private static List<Level> m_levels;
     private static GameLogger m_logger;
-    private static boolean m_defaultGameRunning;
-    private static int totalLevelCount;
+    private boolean m_loadGameRunning;
+    private boolean m_defaultGameRunning;
     private final DialogView m_dialogView;
     private final Movement m_movement;
     private final Timer m_timer;
@@ -52,39 +48,12 @@ public class LoadGame {
         this.m_gameModel = m_gameModel;
     }
 
-    /**
-     * Getter for the total number of levels
-     *
-     * @return current total number of levels in Integer form
-     */
-    public static int getTotalLevelCount() {
-        return totalLevelCount;
-    }
-
-    /**
-     * Getter for the map set name
-     *
-     * @return current map set name in String form
-     */
-    public static String getMapSetName() {
-        return m_mapSetName;
-    }
-
-    /**
-     * Getter for level name String array list
-     *
-     * @return current level name String array list
-     */
-    public static ArrayList<String> getLevelNameList() {
-        return m_levelNameList;
-    }
-
     /**
      * Getter for whether load game function is running or not
      *
      * @return true when load game is running else false
      */
-    public static boolean isLoadGameRunning() {
+    public boolean isLoadGameRunning() {
         return m_loadGameRunning;
     }
 
@@ -93,19 +62,10 @@ public class LoadGame {
      *
      * @return true when load default game is running else false
      */
-    public static boolean isDefaultGameRunning() {
+    public boolean isDefaultGameRunning() {
         return m_defaultGameRunning;
     }
 
-    /**
-     * Getter for level objects grid array list
-     *
-     * @return current level objects grid list
-     */
-    public static List<Level> getLevels() {
-        return m_levels;
-    }
-
     /**
      * Getter for logger object
      *
@@ -115,15 +75,6 @@ public class LoadGame {
         return m_logger;
     }
 
-    /**
-     * Getter for level diamond + object grid array list
-     *
-     * @return current grid array list as a List of Strings
-     */
-    public static List<String> getGetGrid() {
-        return m_getGrid;
-    }
-
     /**
      * Getter for save file
      *
@@ -134,81 +85,104 @@ public class LoadGame {
     }
 
     /**
-     * Read through map file and assign values to game variables depending on certain lines
+     * Indexes the map file in one pass and assigns values to game variables from its header
      *
      * @param input map file directory
-     * @return array list of all the levels in the game
+     * @return list of all the levels in the game, each built on first use
      */
     public List<Level> loadGameFile(InputStream input) {
-        m_levelNameList.clear();
-        List<Level> levels = new ArrayList<>(5);
-        int levelIndex = 0;
-
-        try (BufferedReader reader = new BufferedReader(new
-                InputStreamReader(input))) {
-            boolean parsedFirstLevel = false;
-            List<String> rawLevel = new ArrayList<>();
-            String levelName = "";
-
-            while (true) {
-                String line = reader.readLine();
+        MapSetIndex mapSet;
 
-                if (line == null) {
-                    if (rawLevel.size() != 0) {
-                        Level parsedLevel = new Level(levelName, ++levelIndex,
-                                rawLevel);
-                        levels.add(parsedLevel);
-                    }
-                    break;
-                }
+        try (input) {
+            mapSet = MapSetIndex.read(input);
+        } catch (IOException e) {
+            m_logger.severe("Error trying to load the game " +
+                    "file: " + e);
+            mapSet = new MapSetIndex(new byte[0]);
+        } catch (NullPointerException e) {
+            m_logger.severe("Cannot open the requested file:" +
+                    " " + e);
+            mapSet = new MapSetIndex(new byte[0]);
+        }
+        return loadMapSet(mapSet);
+    }
 
-                if (!m_gameModel.isReset() && line.startsWith("W")) {
-                    m_getGrid.add(line);
-                    m_getGrid.add("\n");
-                }
+    /**
+     * Reads the map file, indexes it from its level catalog and assigns values to game
+     * variables from its header
+     *
+     * @param file map file on disk
+     * @return list of all the levels in the game, each built on first use
+     */
+    public List<Level> loadGameFile(File file) {
+        MapSetIndex mapSet;
 
-                readSaveGame(line);
+        try {
+            mapSet = MapSetIndex.open(file.toPath());
+        } catch (IOException e) {
+            m_logger.severe("Error trying to load the game " +
+                    "file: " + e);
+            mapSet = new MapSetIndex(new byte[0]);
+        }
+        return loadMapSet(mapSet);
+    }
 
-                if (line.contains("MapSetName")) {
-                    m_mapSetName = line.replace
-                            ("MapSetName: ", "");
-                    continue;
-                }
+    /**
+     * Assigns values to game variables from the header of an indexed map file
+     * Levels are only built when first played, the whole map set is validated in the
+     * background once per map file, see logValidation
+     *
+     * @param mapSet the indexed map file
+     * @return list of all the levels in the game, each built on first use
+     */
+    private List<Level> loadMapSet(MapSetIndex mapSet) {
+        GameSession session = m_gameModel.getSession();
+        session.getLevelNameList().clear();
 
-                if (line.contains("LevelName")) {
-                    if (!m_gameModel.isReset()) {
-                        totalLevelCount++;
-                        m_getGrid.add("\n");
-                        m_getGrid.add(line);
-                        m_getGrid.add("\n");
-                    }
-                    if (parsedFirstLevel) {
-                        Level parsedLevel = new Level(levelName, ++levelIndex,
-                                rawLevel);
-                        levels.add(parsedLevel);
-                        rawLevel.clear();
-                    } else {
-                        parsedFirstLevel = true;
-                    }
-                    levelName = line.replace("LevelName: ", "");
-                    m_levelNameList.add(levelName);
-                    continue;
+        for (String line : mapSet.getHeader()) {
+            readSaveGame(line);
+        }
+        if (mapSet.getMapSetName() != null) {
+            session.setMapSetName(mapSet.getMapSetName());
+        }
+        for (int i = 0; i < mapSet.getLevelCount(); i++) {
+            session.getLevelNameList().add(mapSet.getLevelName(i));
+        }
+        boolean validated = m_gameModel.isReset() &&
+                session.getValidationReport() != null;
+        session.setMapSet(mapSet);
+        if (!validated) {
+            session.setValidationReport(null);
+            CompletableFuture.supplyAsync(() -> new LevelValidator()
+                    .validate(mapSet)).thenAccept(report -> {
+                if (session.getMapSet() == mapSet) {
+                    session.setValidationReport(report);
+                    Platform.runLater(() -> logValidation(report));
                 }
-                line = line.trim();
-                line = line.toUpperCase();
+            });
+        }
+        return mapSet.getLevels();
+    }
 
-                if (line.matches(".*W.*W.*")) {
-                    rawLevel.add(line);
-                }
+    /**
+     * Logs the levels of a map set that cannot be played and the map set summary
+     *
+     * @param report the validation of the map set
+     */
+    private void logValidation(ValidationReport report) {
+        if (m_logger == null) {
+            return;
+        }
+        for (LevelCheck check : report.getChecks()) {
+            if (!check.isPlayable()) {
+                m_logger.warning("Level check failed: " + check);
             }
-        } catch (IOException e) {
-            m_logger.severe("Error trying to load the game " +
-                    "file: " + e);
-        } catch (NullPointerException e) {
-            m_logger.severe("Cannot open the requested file:" +
-                    " " + e);
         }
-        return levels;
+        if (!report.isClean()) {
+            m_logger.warning(report.getSummary());
+        } else if (GameModel.isDebugActive()) {
+            m_logger.info(report.getSummary());
+        }
     }
 
     /**
@@ -217,23 +191,25 @@ public class LoadGame {
      * @param line current String line being iterated through from map set file
      */
     public void readSaveGame(String line) {
+        GameSession session = m_gameModel.getSession();
+
         if (line.contains("Username")) {
-            DialogView.setSaveUsername(line.replace("Username: ",
+            session.setUsername(line.replace("Username: ",
                     ""));
         }
 
         if (line.contains("Moves")) {
-            Movement.setMoveCount(Integer.parseInt(line.replace(
+            session.setMoveCount(Integer.parseInt(line.replace(
                     "Moves: ", "")));
         }
 
         if (line.contains("TotalM")) {
-            LeaderboardModel.setTotalGameMoveCount(Integer.parseInt(line
+            session.setTotalGameMoveCount(Integer.parseInt(line
                     .replace("TotalM" + ": ", "")));
         }
 
         if (line.contains("Timer")) {
-            Timer.setTimeCount(Integer.parseInt(line.replace
+            session.setTimeCount(Integer.parseInt(line.replace
                     ("Timer: ", "")));
         }
 
@@ -268,7 +244,7 @@ public class LoadGame {
             if (m_saveFile.getName().contains("save")) {
                 ifSave = true;
             }
-            initializeGame(new FileInputStream(m_saveFile));
+            initializeGame(m_saveFile);
             if (!m_saveFile.getName().contains("save")) {
                 m_dialogView.showUsername();
             }
@@ -296,13 +272,34 @@ public class LoadGame {
     }
 
     /**
-     * Starts game and other game functions
-     * Sets current level and reloads game grid
+     * Starts game from a map set stream such as the default map set resource
      *
      * @param input map set name
      * @throws IOException if map couldn't be opened
      */
     public void initializeGame(InputStream input) throws IOException {
+        initializeGame(() -> loadGameFile(input));
+    }
+
+    /**
+     * Starts game from a map set file, opened through its level catalog
+     *
+     * @param file map set file
+     * @throws IOException if map couldn't be opened
+     */
+    public void initializeGame(File file) throws IOException {
+        initializeGame(() -> loadGameFile(file));
+    }
+
+    /**
+     * Starts game and other game functions
+     * Sets current level and reloads game grid
+     *
+     * @param levels loads the levels of the map set
+     * @throws IOException if map couldn't be opened
+     */
+    private void initializeGame(Supplier<List<Level>> levels)
+            throws IOException {
         try {
             m_logger = new GameLogger();
             m_movement.resetMoveCounter();
@@ -310,7 +307,7 @@ public class LoadGame {
             m_timer.imageTimer();
             m_timer.createTimer();
             m_gameModel.runLevelCounter();
-            m_levels = loadGameFile(input);
+            m_gameModel.getSession().setLevels(levels.get());
 
             if (!m_gameModel.isReset()) {
                 m_movement.setEventFilter();
@@ -320,15 +317,15 @@ public class LoadGame {
                 GameModel.setDebug(false);
             }
             if (!(ifSave || m_gameModel.isReset())) {
-                LeaderboardModel.clearTotalGameMoveCount();
+                m_gameModel.getSession().setTotalGameMoveCount(0);
             }
             if (ifSave && m_gameModel.isReset()) {
-                m_gameModel.setCurrentLevel(m_levels.get
-                        (0));
+                m_gameModel.setCurrentLevel(m_gameModel.getSession().
+                        getLevels().get(0));
             }
             if(m_gameModel.isReset() && !ifSave) {
-                m_gameModel.setCurrentLevel(m_levels.get
-                        (m_gameModel.getLevelCounter() - 1));
+                m_gameModel.setCurrentLevel(m_gameModel.getSession().
+                        getLevels().get(m_gameModel.getLevelCounter() - 1));
             }
 
         } catch (IOException x) {
@@ -340,6 +337,6 @@ public class LoadGame {
         GraphicObject.setImageKeeper("stoppedBackward.png");
         GraphicObject.createImage();
         m_gameModel.floorColor();
-        m_gameModel.reloadGrid();
+        m_gameModel.redrawGrid();
     }
 }
\ No newline at end of file
@@ -16,10 +16,9 @@ import java.io.IOException;
  */
 public class Movement {
 
-    private static int m_counter = 0, m_moveCount = 0;
-    private static boolean m_moveComplete = false;
     private final GameModel m_gameModel;
-    private Boolean keeperMoved = false;
+    private GraphicObject m_graphicObject;
+    private boolean keeperMoved = false;
 
     /**
      * Movement constructor gets current instances for certain objects
@@ -30,80 +29,51 @@ public class Movement {
         this.m_gameModel = m_gameModel;
     }
 
-    /**
-     * Getter for key pressed counter
-     *
-     * @return key pressed counter in Integer form
-     */
-    public static int getM_counter() {
-        return m_counter;
-    }
-
-    /**
-     * Getter for level moves
-     *
-     * @return current level moves in Integer form
-     */
-    public static int getMovesCount() {
-        return m_moveCount;
-    }
-
-    /**
-     * Setter for level move count
-     *
-     * @param m_moveCount overwrite current level move count
-     */
-    public static void setMoveCount(int m_moveCount) {
-        Movement.m_moveCount = m_moveCount;
-    }
-
-    /**
-     * States whether a move has been completed or not
-     *
-     * @return true if move complete else false
-     */
-    public static boolean isMoveComplete() {
-        return m_moveComplete;
-    }
-
     /**
      * Handles action that should be executed when a certain key is pressed
      *
      * @param code keyboard key code
      */
     public void handleKey(KeyCode code) {
-        Timer timer = new Timer(m_gameModel);
-        GraphicObject graphicObject = new GraphicObject();
+        Timer timer = m_gameModel.getTimer();
+        GameSession session = m_gameModel.getSession();
+        if (m_graphicObject == null) {
+            m_graphicObject = new GraphicObject();
+        }
+        if (code != KeyCode.H) {
+            m_gameModel.hideHint();
+        }
 
         switch (code) {
 
+            case H -> m_gameModel.showHint();
+
             case UP, W -> {
                 timer.resetImageTimer();
-                m_counter = 1;
-                graphicObject.setMovingAnimationUp();
+                session.setLastDirection(Direction.UP);
+                m_graphicObject.setMovingAnimationUp();
 
-                move(new Point(-1, 0));
+                move(Direction.UP);
             }
 
             case RIGHT, D -> {
                 timer.resetImageTimer();
-                m_counter = 2;
-                graphicObject.setMovingAnimationRight();
+                session.setLastDirection(Direction.RIGHT);
+                m_graphicObject.setMovingAnimationRight();
 
-                move(new Point(0, 1));
+                move(Direction.RIGHT);
             }
             case DOWN, S -> {
                 timer.resetImageTimer();
-                m_counter = 3;
-                graphicObject.setMovingAnimationDown();
-                GraphicObject.createImage();
-                move(new Point(1, 0));
+                session.setLastDirection(Direction.DOWN);
+                m_graphicObject.setMovingAnimationDown();
+                move(Direction.DOWN);
             }
             case LEFT, A -> {
                 timer.resetImageTimer();
-                m_counter = 4;
-                graphicObject.setMovingAnimationLeft();
-                move(new Point(0, -1));
+                session.setLastDirection(Direction.LEFT);
+                m_graphicObject.setMovingAnimationLeft();
+                move(Direction.LEFT);
             }
         }
 
@@ -118,66 +88,53 @@ public class Movement {
      * @param delta the movement delta
      */
     public void move(Point delta) {
+        byte direction = Direction.fromDelta((int) delta.getX(),
+                (int) delta.getY());
+        if (direction != Direction.NONE) {
+            move(direction);
+        }
+    }
+
+    /**
+     * Handles movement of the keeper and objects that interact with it
+     * Runs on cell indices so a move allocates nothing
+     *
+     * @param direction the direction code to move in
+     */
+    public void move(byte direction) {
         if (m_gameModel.isGameComplete()) {
             return;
         }
 
-        Point keeperPosition = m_gameModel.getCurrentLevel().
-                getKeeperPosition();
-        GameObject keeper = m_gameModel.getCurrentLevel().
-                getObjectAt(keeperPosition);
-        Point targetObjectPoint = GameGrid.translatePoint(keeperPosition,
-                delta);
-        GameObject keeperTarget = m_gameModel.getCurrentLevel().
-                getObjectAt(targetObjectPoint);
+        Level currentLevel = m_gameModel.getCurrentLevel();
+        GameSession session = m_gameModel.getSession();
 
         if (GameModel.isDebugActive()) {
             System.out.println("Current level state:");
-            System.out.println(m_gameModel.getCurrentLevel().toString());
-            System.out.println("Keeper pos: " + keeperPosition);
-            System.out.println("Movement source obj: " + keeper);
-            System.out.printf("Target object: %s at [%s]", keeperTarget,
-                    targetObjectPoint);
+            System.out.println(currentLevel.toString());
+            System.out.println("Keeper pos: " +
+                    currentLevel.getKeeperPosition());
+            System.out.println("Movement direction: " +
+                    Direction.toChar(direction));
         }
 
-        keeperMoved = false;
-
-        switch (keeperTarget) {
-
-            case WALL:
-                break;
-
-            case CRATE:
-
-                GameObject crateTarget = m_gameModel.getCurrentLevel().
-                        getTargetObject
-                                (targetObjectPoint, delta);
-                if (crateTarget != GameObject.FLOOR) {
-                    break;
-                }
+        keeperMoved = session.move(direction) != Level.BLOCKED;
+        ifKeeperMoves();
+    }
 
-                m_gameModel.getCurrentLevel().moveGameObjectBy
-                        (keeperTarget, targetObjectPoint,
-                                delta);
-                m_gameModel.getCurrentLevel().moveGameObjectBy
-                        (keeper, keeperPosition, delta);
-                keeperMoved = true;
-                break;
-
-            case FLOOR:
-                m_gameModel.getCurrentLevel().moveGameObjectBy
-                        (keeper, keeperPosition, delta);
-                keeperMoved = true;
-                break;
-
-            default:
-                LoadGame.getLogger().severe("The object to be " +
-                        "moved was not a recognised GameObject.");
-                throw new AssertionError
-                        ("This should not have happened. " +
-                                "Report this problem to the developer.");
+    /**
+     * Plays the last undone move again, checking if it completed the level as a move would
+     *
+     * @return true if a move was redone else false
+     */
+    public boolean redo() {
+        if (m_gameModel.isGameComplete()) {
+            return false;
         }
-        ifKeeperMoves(delta, keeperPosition);
+
+        keeperMoved = m_gameModel.getSession().redo();
+        ifKeeperMoves();
+        return keeperMoved;
     }
 
     /**
@@ -187,12 +144,16 @@ public class Movement {
      * @param keeperPosition current keeper position on game grid
      */
     public void ifKeeperMoves(Point delta, Point keeperPosition) {
-        if (keeperMoved) {
-            keeperPosition.translate((int) delta.getX(), (int) delta.getY());
+        ifKeeperMoves();
+    }
 
-            m_moveComplete = true;
-            m_moveCount++;
+    /**
+     * When keeper has moved update movement and check if level has been completed
+     */
+    public void ifKeeperMoves() {
+        if (keeperMoved) {
             if (m_gameModel.getCurrentLevel().isComplete()) {
+                m_gameModel.getSession().completeLevel();
                 m_gameModel.setLevelComplete(true);
                 if (GameModel.isDebugActive()) {
                     System.out.println("Level complete!");
@@ -211,14 +172,14 @@ public class Movement {
      */
     public void setMoveLabel() {
         m_gameModel.setMoveCounter("Moves: " + String.format("%03d",
-                m_moveCount));
+                m_gameModel.getSession().getMoveCount()));
     }
 
     /**
      * Reset move counter
      */
     public void resetMoveCounter() {
-        m_moveCount = 0;
+        m_gameModel.getSession().setMoveCount(0);
     }
 
     /**
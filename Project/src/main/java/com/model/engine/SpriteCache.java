@@ -0,0 +1,67 @@
+package com.model.engine;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of decoded sprite images keyed by their resource name
+ * Every skin has its own file name, such as Black Wall.png, so a name picks both the
+ * skin and the sprite. Each file is decoded once and the Image shared from then on
+ *
+ * @author Zain Rashid
+ */
+public final class SpriteCache {
+
+    private static final Map<String, Image> m_images =
+            new ConcurrentHashMap<>();
+
+    /**
+     * SpriteCache is a holder for the static cache and is never instantiated
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Getter for a sprite, decoding it the first time it is asked for
+     *
+     * @param name the resource name of the sprite
+     * @return the shared Image
+     */
+    public static Image get(String name) {
+        return m_images.computeIfAbsent(name, Image::new);
+    }
+
+    /**
+     * Decodes sprites ahead of time so drawing them later never waits on a file
+     *
+     * @param names the resource names of the sprites
+     */
+    public static void preload(String... names) {
+        for (String name : names) {
+            get(name);
+        }
+    }
+
+    /**
+     * Swaps the skin of a sprite, dropping the image of the old skin
+     *
+     * @param oldName the resource name in use until now or null if there was none
+     * @param newName the resource name used from now on or null if there is none
+     */
+    public static void changeSkin(String oldName, String newName) {
+        if (oldName != null && !oldName.equals(newName)) {
+            m_images.remove(oldName);
+        }
+    }
+
+    /**
+     * Getter for the number of cached sprites
+     *
+     * @return number of decoded images held
+     */
+    public static int size() {
+        return m_images.size();
+    }
+}
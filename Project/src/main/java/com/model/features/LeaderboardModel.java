@@ -1,9 +1,7 @@
 package com.model.features;
 
 import com.model.engine.GameModel;
-import com.model.engine.LoadGame;
-import com.model.engine.Movement;
-import com.view.DialogView;
+import com.model.engine.GameSession;
 
 import java.io.*;
 import java.util.ArrayList;
@@ -19,10 +17,8 @@ import java.util.TreeMap;
  */
 public class LeaderboardModel {
 
-    private static final List<String> m_completeMessageArray =
-            new ArrayList<>();
-    private static int m_totalGameMoveCount;
     private final GameModel m_gameModel;
+    private final List<String> m_completeMessageArray;
     private String m_compareArray, m_writeArray;
     private boolean m_topTen, m_highScore;
 
@@ -33,40 +29,7 @@ public class LeaderboardModel {
      */
     public LeaderboardModel(GameModel m_gameModel) {
         this.m_gameModel = m_gameModel;
-    }
-
-    /**
-     * Getter for total moves in the game so far
-     *
-     * @return current total move count in Integer form
-     */
-    public static int getTotalGameMoveCount() {
-        return m_totalGameMoveCount;
-    }
-
-    /**
-     * Setter for total moves in the game so far
-     *
-     * @param totalGameMoveCount overwrite current total move count
-     */
-    public static void setTotalGameMoveCount(int totalGameMoveCount) {
-        LeaderboardModel.m_totalGameMoveCount = totalGameMoveCount;
-    }
-
-    /**
-     * Calculate total game moves
-     *
-     * @param integer current level move count
-     */
-    public static void calcTotalGameMoveCount(Integer integer) {
-        m_totalGameMoveCount = m_totalGameMoveCount + integer;
-    }
-
-    /**
-     * Reset total game moves integer to zero
-     */
-    public static void clearTotalGameMoveCount() {
-        m_totalGameMoveCount = 0;
+        this.m_completeMessageArray = m_gameModel.getSession().getLeaderboard();
     }
 
     /**
@@ -100,7 +63,7 @@ public class LeaderboardModel {
         try (BufferedReader reader = new BufferedReader(new FileReader
                 (System.getProperty("user.dir") +
                         "/src/main/resources/leaderboard/" +
-                        LoadGame.getMapSetName() +
+                        m_gameModel.getSession().getMapSetName() +
                         m_gameModel.getPreviousLevelName() + ".txt/"))) {
             String line;
             while ((line = reader.readLine()) != null) {
@@ -131,7 +94,7 @@ public class LeaderboardModel {
      *
      * @return scoreboard array list as string
      */
-    public static String printArray() {
+    public String printArray() {
         return String.join("", m_completeMessageArray);
     }
 
@@ -161,18 +124,20 @@ public class LeaderboardModel {
      * @throws IOException if scoreboard file can't be written to
      */
     public void writeFile() throws IOException {
+        GameSession session = m_gameModel.getSession();
+        String formattedTime = m_gameModel.getTimer().getFormattedTime();
         File file = new File(System.getProperty("user.dir") +
-                "/src/main/resources/leaderboard/" + LoadGame.getMapSetName() +
+                "/src/main/resources/leaderboard/" + session.getMapSetName() +
                 m_gameModel.getPreviousLevelName() + ".txt/");
         FileWriter fw = new FileWriter(file, true);
         BufferedWriter bw = new BufferedWriter(fw);
-        m_compareArray = String.format("%-20s", DialogView.getSaveUsername()) +
-                "     " + Timer.getFormattedTime() + "     " + String.format
-                ("%-3s", Movement.getMovesCount()) + "\n";
+        m_compareArray = String.format("%-20s", session.getUsername()) +
+                "     " + formattedTime + "     " + String.format
+                ("%-3s", session.getMoveCount()) + "\n";
 
-        bw.write(String.format("%-20s", DialogView.getSaveUsername()) + "-" +
-                Timer.getFormattedTime() + "     " + String.format
-                ("%-3s", Movement.getMovesCount()));
+        bw.write(String.format("%-20s", session.getUsername()) + "-" +
+                formattedTime + "     " + String.format
+                ("%-3s", session.getMoveCount()));
         bw.newLine();
         bw.close();
     }
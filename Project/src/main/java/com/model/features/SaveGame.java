@@ -1,10 +1,8 @@
 package com.model.features;
 
 import com.model.engine.GameModel;
+import com.model.engine.GameSession;
 import com.model.engine.Level;
-import com.model.engine.LoadGame;
-import com.model.engine.Movement;
-import com.view.DialogView;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
@@ -12,7 +10,6 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Collections;
 
 /**
  * Contains functions which save current game state
@@ -44,6 +41,7 @@ public class SaveGame {
      * Save Current Game State and future levels to a file
      */
     public void saveGame() {
+        GameSession session = m_gameModel.getSession();
         try {
             storeGrid();
             FileChooser fileChooser = new FileChooser();
@@ -54,35 +52,35 @@ public class SaveGame {
             fileChooser.setInitialDirectory(new File(System.
                     getProperty("user.dir") + "/src/main/resources/maps" +
                     "/mapSaves/"));
-            fileChooser.setInitialFileName("save" + LoadGame.getMapSetName() +
+            fileChooser.setInitialFileName("save" + session.getMapSetName() +
                     m_gameModel.getLevelCounter() +
-                    DialogView.getSaveUsername());
+                    session.getUsername());
             File saveFile = fileChooser.showSaveDialog(m_primaryStage);
 
             if (saveFile != null) {
+                String remainingMapSet = calculateRemainingMapSet();
                 FileWriter fw = new FileWriter(saveFile);
                 BufferedWriter bw = new BufferedWriter(fw);
 
                 bw.write("SaveGame");
                 bw.newLine();
-                bw.write("Username: " + DialogView.getSaveUsername());
+                bw.write("Username: " + session.getUsername());
                 bw.newLine();
-                bw.write("Moves: " + Movement.getMovesCount());
+                bw.write("Moves: " + session.getMoveCount());
                 bw.newLine();
-                bw.write("TotalM: " + LeaderboardModel.
-                        getTotalGameMoveCount());
+                bw.write("TotalM: " + session.getTotalGameMoveCount());
                 bw.newLine();
-                bw.write("Timer: " + Timer.getTimeCount());
+                bw.write("Timer: " + session.getTimeCount());
                 bw.newLine();
                 bw.write("LevelIndex: " + m_gameModel.
                         getLevelCounter());
                 bw.newLine();
-                bw.write("MapSetName: " + LoadGame.getMapSetName());
+                bw.write("MapSetName: " + session.getMapSetName());
                 bw.newLine();
                 bw.write("LevelName: " + m_currentLevel.getName());
                 bw.newLine();
                 bw.write(String.valueOf(m_savedGrid));
-                bw.write(calculateRemainingMapSet());
+                bw.write(remainingMapSet);
                 bw.close();
             }
         } catch (IOException e) {
@@ -96,17 +94,8 @@ public class SaveGame {
      * @return String of remaining levels
      */
     public String calculateRemainingMapSet() {
-        final int removeLevelConstant = 43;
-        int factor =
-                (LoadGame.getTotalLevelCount() -
-                        m_gameModel.getLevelCounter())
-                        * removeLevelConstant;
-
-        Collections.reverse(LoadGame.getGetGrid());
-        LoadGame.getGetGrid().subList(factor,
-                LoadGame.getGetGrid().size()).clear();
-        Collections.reverse(LoadGame.getGetGrid());
-        return String.join("", LoadGame.getGetGrid());
+        return m_gameModel.getSession().getMapSet().getText(
+                m_currentLevel.getIndex());
     }
 
     /**
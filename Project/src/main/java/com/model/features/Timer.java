@@ -18,10 +18,10 @@ import java.util.Date;
  */
 public class Timer {
 
-    private static int m_timeCount, m_imageTimeCount;
-    private static Timeline m_timeline, m_timelineMove;
-    private static String m_formattedTime;
     private final GameModel m_gameModel;
+    private int m_imageTimeCount;
+    private Timeline m_timeline, m_timelineMove;
+    private String m_formattedTime;
 
     /**
      * Timer constructor gets current instances of certain objects
@@ -32,30 +32,12 @@ public class Timer {
         this.m_gameModel = m_gameModel;
     }
 
-    /**
-     * Getter for current time in milliseconds
-     *
-     * @return time as Integer
-     */
-    public static int getTimeCount() {
-        return m_timeCount;
-    }
-
-    /**
-     * Setter for time
-     *
-     * @param m_timeCount overwrite current time count
-     */
-    public static void setTimeCount(int m_timeCount) {
-        Timer.m_timeCount = m_timeCount;
-    }
-
     /**
      * Getter for formatted time
      *
      * @return current formatted time
      */
-    public static String getFormattedTime() {
+    public String getFormattedTime() {
         return m_formattedTime;
     }
 
@@ -67,7 +49,8 @@ public class Timer {
         m_timelineMove = new Timeline(new KeyFrame(Duration.seconds(1), evt -> {
             m_imageTimeCount++;
             if (m_imageTimeCount >= 1 && !m_gameModel.isGameComplete()) {
-                graphicObject.setStoppedAnimation();
+                graphicObject.setStoppedAnimation(m_gameModel.getSession().
+                        getLastDirection());
                 try {
                     m_gameModel.reloadGrid();
                 } catch (IOException e) {
@@ -84,9 +67,10 @@ public class Timer {
      */
     public void createTimer() {
         m_timeline = new Timeline(new KeyFrame(Duration.millis(1), evt -> {
-            m_timeCount++;
+            m_gameModel.getSession().addTime(1);
             SimpleDateFormat sdf = new SimpleDateFormat("mm:ss:SSS");
-            m_formattedTime = sdf.format(new Date(m_timeCount));
+            m_formattedTime = sdf.format(new Date(m_gameModel.getSession().
+                    getTimeCount()));
             m_gameModel.setTimer("Timer: " + m_formattedTime);
         }));
         m_timeline.setCycleCount(Animation.INDEFINITE);
@@ -107,7 +91,7 @@ public class Timer {
         m_timeline.stop();
         m_timeline.getKeyFrames().clear();
         m_timeline = null;
-        m_timeCount = 0;
+        m_gameModel.getSession().setTimeCount(0);
     }
 
     /**
@@ -131,7 +115,7 @@ public class Timer {
      * Reset game timer
      */
     public void resetTimer() {
-        m_timeCount = 0;
+        m_gameModel.getSession().setTimeCount(0);
     }
 
     /**
@@ -3,8 +3,7 @@ package com.view;
 import com.model.engine.GameModel;
 import com.controller.Main;
 import com.controller.MenuController;
-import com.model.engine.LoadGame;
-import com.model.engine.Movement;
+import com.model.engine.GameSession;
 import com.model.features.LeaderboardModel;
 import com.model.features.Timer;
 import javafx.beans.binding.Bindings;
@@ -32,7 +31,6 @@ import java.io.IOException;
  */
 public class DialogView {
 
-    private static String m_saveUsername;
     private final Stage m_primaryStage;
     private final GameModel m_gameModel;
     private final Timer m_timer;
@@ -57,24 +55,6 @@ public class DialogView {
         m_leaderboardModel = new LeaderboardModel(m_gameModel);
     }
 
-    /**
-     * Getter for username
-     *
-     * @return current username in String form
-     */
-    public static String getSaveUsername() {
-        return m_saveUsername;
-    }
-
-    /**
-     * Setter for username
-     *
-     * @param m_saveUsername overwrite current username
-     */
-    public static void setSaveUsername(String m_saveUsername) {
-        DialogView.m_saveUsername = m_saveUsername;
-    }
-
     /**
      * Set username dialog box
      * Restrict user inputs
@@ -102,7 +82,7 @@ public class DialogView {
         );
 
         startGame.setOnAction(e -> {
-            m_saveUsername = username.getText().trim();
+            m_gameModel.getSession().setUsername(username.getText().trim());
             m_dialogStage.close();
             m_primaryStage.setScene(MenuController.getBoardScene());
             m_timer.stopTimer();
@@ -373,7 +353,7 @@ public class DialogView {
             } else {
                 return "Well done you got the high score for this level!\n" +
                         outputResults() + "\n Total Game Moves: " +
-                        LeaderboardModel.getTotalGameMoveCount();
+                        m_gameModel.getSession().getTotalGameMoveCount();
             }
         }
         if (m_leaderboardModel.isTopTen() && !m_leaderboardModel.isHighScore()) {
@@ -383,7 +363,7 @@ public class DialogView {
             } else {
                 return "Well done you are in the top 10 scores!\n" +
                         outputResults() + "\n Total Game Moves: " +
-                        LeaderboardModel.getTotalGameMoveCount();
+                        m_gameModel.getSession().getTotalGameMoveCount();
             }
         } else {
             if (m_gameModel.getLevelCounter() == 1) {
@@ -392,7 +372,7 @@ public class DialogView {
             } else {
                 return "Sorry you aren't in the top 10 scores better luck next "
                         + "time!\n" + outputResults() + "\n Total Game Moves: "
-                        + LeaderboardModel.getTotalGameMoveCount();
+                        + m_gameModel.getSession().getTotalGameMoveCount();
             }
         }
     }
@@ -403,12 +383,13 @@ public class DialogView {
      * @return dialog body in String form
      */
     public String outputResults() {
-        return "Username: " + m_saveUsername +
-                "\n Map Name: " + LoadGame.getMapSetName()
+        GameSession session = m_gameModel.getSession();
+        return "Username: " + session.getUsername() +
+                "\n Map Name: " + session.getMapSetName()
                 + "\n " + "Level Name: " +
                 m_gameModel.getPreviousLevelName()
-                + "\n Time: " + Timer.getFormattedTime() +
-                "\n Total Level Moves: " + Movement.getMovesCount();
+                + "\n Time: " + m_timer.getFormattedTime() +
+                "\n Total Level Moves: " + session.getMoveCount();
     }
 
     /**
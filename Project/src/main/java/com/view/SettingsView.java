@@ -32,6 +32,7 @@ public class SettingsView {
     private static Color m_userWallColor = Color.BLACK, m_userCrateColor =
             Color.ORANGE, m_userFloorColor = Color.WHITE, m_userDiamondColor
             = Color.DARKCYAN, m_userCrateDiamondColor = Color.DEEPSKYBLUE;
+    private static boolean m_canvasRenderer = false;
     private final Stage m_primaryStage;
 
     /**
@@ -133,6 +134,24 @@ public class SettingsView {
         return m_globalCrateDiamondCounter;
     }
 
+    /**
+     * Getter for whether the game board is drawn on one canvas
+     *
+     * @return true if the canvas renderer is selected else false for the grid
+     */
+    public static boolean isCanvasRenderer() {
+        return m_canvasRenderer;
+    }
+
+    /**
+     * Setter for whether the game board is drawn on one canvas
+     *
+     * @param canvasRenderer true for the canvas renderer, false for the grid
+     */
+    public static void setCanvasRenderer(boolean canvasRenderer) {
+        m_canvasRenderer = canvasRenderer;
+    }
+
     /**
      * Sets colour for game elements based on user input
      *
@@ -163,6 +182,7 @@ public class SettingsView {
                 m_globalCrateDiamondCounter = 1;
             }
         }
+        GraphicObject.invalidatePaints();
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlockDetectorTest {
+
+    @Test
+    void isDeadSquare() {
+        Level level = TestLevels.create(
+                "WWWWWW",
+                "W    W",
+                "W SC W",
+                "W   DW",
+                "WWWWWW");
+
+        assertTrue(level.isDeadSquare(6 + 1));
+        assertTrue(level.isDeadSquare(6 + 3));
+        assertTrue(level.isDeadSquare(18 + 1));
+        assertFalse(level.isDeadSquare(12 + 2));
+        assertFalse(level.isDeadSquare(18 + 4));
+        assertFalse(level.isDeadlocked());
+    }
+
+    @Test
+    void pushOntoDeadSquare() {
+        Level level = TestLevels.create(
+                "WWWWWW",
+                "W    W",
+                "W  C W",
+                "W  SDW",
+                "WWWWWW");
+
+        assertEquals(Level.PUSHED, level.move(Direction.UP));
+        assertTrue(level.isDeadlocked());
+        assertTrue(level.undoMove(Direction.UP, true));
+        assertFalse(level.isDeadlocked());
+    }
+
+    @Test
+    void freezeDeadlock() {
+        Level level = TestLevels.create(
+                "WWWWWWW",
+                "W S   W",
+                "W C  DW",
+                "W  C DW",
+                "WWWWWWW");
+
+        assertFalse(level.isDeadlocked());
+        assertEquals(Level.PUSHED, level.move(Direction.DOWN));
+        assertFalse(level.isDeadSquare(18 + 2));
+        assertTrue(level.isDeadlocked());
+    }
+
+    @Test
+    void frozenOnDiamondsIsNotDeadlock() {
+        Level level = TestLevels.create(
+                "WWWWWW",
+                "WS   W",
+                "W C  W",
+                "WOD  W",
+                "WWWWWW");
+
+        assertFalse(level.isDeadlocked());
+        assertEquals(Level.MOVED, level.move(Direction.RIGHT));
+        assertEquals(Level.PUSHED, level.move(Direction.DOWN));
+        assertTrue(level.isComplete());
+        assertFalse(level.isDeadlocked());
+    }
+}
@@ -0,0 +1,61 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateFinderTest {
+
+    @TempDir
+    Path m_folder;
+
+    @Test
+    void findsCopiesAcrossPacks() throws IOException {
+        Path mapSet = m_folder.resolve("set.skb");
+        Files.writeString(mapSet, String.join("\n",
+                "MapSetName: Set",
+                "LevelName: Line",
+                "WWWWWWW",
+                "WS C DW",
+                "WWWWWWW",
+                "LevelName: Other",
+                "WWWWW",
+                "WSCDW",
+                "W   W",
+                "WWWWW"));
+        Path collection = m_folder.resolve("pack.xsb");
+        Files.writeString(collection, String.join("\n",
+                "; Turned",
+                "###",
+                "#.#",
+                "# #",
+                "#$#",
+                "# #",
+                "#@#",
+                "###"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        DuplicateReport report;
+        try {
+            report = new DuplicateFinder(pool)
+                    .findInFiles(List.of(mapSet, collection));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(3, report.getEntries().size());
+        assertEquals(1, report.getDuplicates().size());
+        List<DuplicateReport.Entry> group = report.getDuplicates().get(0);
+        assertEquals("set.skb", group.get(0).getCollection());
+        assertEquals("Line", group.get(0).getLevelName());
+        assertEquals("pack.xsb", group.get(1).getCollection());
+        assertEquals(1, group.get(1).getIndex());
+    }
+}
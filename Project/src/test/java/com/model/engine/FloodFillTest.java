@@ -0,0 +1,105 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloodFillTest {
+
+    private long[] openCells(String... rows) {
+        int columns = rows[0].length();
+        long[] open = new long[(columns * rows.length + 63) >>> 6];
+        for (int row = 0; row < rows.length; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (rows[row].charAt(column) == ' ') {
+                    int cell = row * columns + column;
+                    open[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+        return open;
+    }
+
+    @Test
+    void fillStopsAtWalls() {
+        long[] open = openCells(
+                "W   W  ",
+                "W W W  ",
+                "W   W  ");
+        FloodFill floodFill = new FloodFill(7, 21);
+        long[] region = new long[floodFill.getWordCount()];
+
+        assertEquals(1, floodFill.fill(open, 15, region));
+        assertTrue(FloodFill.contains(region, 3));
+        assertTrue(FloodFill.contains(region, 10));
+        assertFalse(FloodFill.contains(region, 9));
+        assertFalse(FloodFill.contains(region, 5));
+        assertFalse(FloodFill.contains(region, 14));
+    }
+
+    @Test
+    void fillDoesNotWrapRows() {
+        long[] open = openCells(
+                "W  ",
+                " WW");
+        FloodFill floodFill = new FloodFill(3, 6);
+        long[] region = new long[floodFill.getWordCount()];
+
+        assertEquals(1, floodFill.fill(open, 2, region));
+        assertFalse(FloodFill.contains(region, 3));
+    }
+
+    @Test
+    void fillCrossesWords() {
+        String[] rows = new String[12];
+        rows[0] = "WWWWWWWWWWWWWWWWWWWW";
+        for (int row = 1; row < 11; row++) {
+            rows[row] = row % 2 == 1 ? "W                  W" :
+                    row % 4 == 2 ? "WWWWWWWWWWWWWWWWWW W" :
+                            "W WWWWWWWWWWWWWWWWWW";
+        }
+        rows[11] = "WWWWWWWWWWWWWWWWWWWW";
+        FloodFill floodFill = new FloodFill(20, 240);
+        long[] region = new long[floodFill.getWordCount()];
+
+        assertEquals(21, floodFill.fill(openCells(rows), 10 * 20 - 2, region));
+        assertTrue(FloodFill.contains(region, 4 * 20 + 1));
+        assertFalse(FloodFill.contains(region, 11 * 20 + 5));
+    }
+
+    @Test
+    void keeperReachableAroundCrates() {
+        List<String> raw_level = new ArrayList<>(List.of(
+                "WWWWWW",
+                "WS C W",
+                "WWWWWW"));
+        Level level = new Level("levelName", 1, raw_level);
+
+        assertTrue(level.isKeeperReachable(6 + 2));
+        assertFalse(level.isKeeperReachable(6 + 4));
+        assertEquals(6 + 1, level.getNormalizedKeeperIndex());
+    }
+
+    @Test
+    void dilateStaysInsideRows() {
+        long[] open = openCells(
+                "WWWW ",
+                "WWWWW",
+                "WWWWW",
+                " WWWW");
+        FloodFill floodFill = new FloodFill(5, 20);
+        long[] near = new long[floodFill.getWordCount()];
+        floodFill.dilate(open, near);
+
+        assertTrue(FloodFill.contains(near, 3));
+        assertTrue(FloodFill.contains(near, 8));
+        assertTrue(FloodFill.contains(near, 10));
+        assertTrue(FloodFill.contains(near, 16));
+        assertFalse(FloodFill.contains(near, 5));
+        assertFalse(FloodFill.contains(near, 14));
+        assertFalse(FloodFill.contains(near, 12));
+    }
+}
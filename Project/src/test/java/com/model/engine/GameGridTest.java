@@ -84,4 +84,24 @@ class GameGridTest {
         m_gameGrid.putGameObjectAt(GameObject.CRATE, a,a);
         assertSame(m_gameGrid.getGameObjectAt(a, a), GameObject.CRATE);
     }
+
+    @Test
+    void putKeeperAt() {
+        final int a = 2;
+        final int b = 3;
+        m_gameGrid.putGameObjectAt(GameObject.KEEPER, a, a);
+        m_gameGrid.putGameObjectAt(GameObject.KEEPER, b, b);
+        assertEquals(m_gameGrid.indexOf(b, b), m_gameGrid.getKeeperIndex());
+        assertNull(m_gameGrid.getGameObjectAt(a, a));
+        assertSame(GameObject.KEEPER, m_gameGrid.getGameObjectAt(b, b));
+    }
+
+    @Test
+    void putGameObjectAtOverwrites() {
+        final int a = 5;
+        m_gameGrid.putGameObjectAt(GameObject.CRATE, a, a);
+        m_gameGrid.putGameObjectAt(GameObject.FLOOR, a, a);
+        assertSame(GameObject.FLOOR, m_gameGrid.getGameObjectAt(a, a));
+        assertFalse(m_gameGrid.isAt(GameObject.CRATE, m_gameGrid.indexOf(a, a)));
+    }
 }
\ No newline at end of file
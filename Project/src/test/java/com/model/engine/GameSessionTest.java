@@ -0,0 +1,64 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private GameSession m_first;
+    private GameSession m_second;
+
+    @BeforeEach
+    void setUp() {
+        m_first = new GameSession();
+        m_second = new GameSession();
+        m_first.setCurrentLevel(createLevel());
+        m_second.setCurrentLevel(createLevel());
+    }
+
+    private Level createLevel() {
+        return TestLevels.create("WWWWWW", "WS CDW", "WWWWWW");
+    }
+
+    @Test
+    void move() {
+        assertEquals(Level.MOVED, m_first.move(Direction.RIGHT));
+        assertEquals(Level.PUSHED, m_first.move(Direction.RIGHT));
+        assertEquals(Level.BLOCKED, m_first.move(Direction.UP));
+        assertEquals(2, m_first.getMoveCount());
+        assertTrue(m_first.isMoveComplete());
+        assertTrue(m_first.getCurrentLevel().isComplete());
+    }
+
+    @Test
+    void sessionsAreIndependent() {
+        m_first.move(Direction.RIGHT);
+        m_first.addTime(10);
+        m_first.setUsername("first");
+        m_first.getLeaderboard().add("first");
+
+        assertEquals(0, m_second.getMoveCount());
+        assertEquals(0, m_second.getTimeCount());
+        assertNull(m_second.getUsername());
+        assertTrue(m_second.getLeaderboard().isEmpty());
+        assertNotEquals(m_first.getCurrentLevel().getKeeperIndex(),
+                m_second.getCurrentLevel().getKeeperIndex());
+    }
+
+    @Test
+    void undoAndRedo() {
+        m_first.move(Direction.RIGHT);
+        m_first.move(Direction.RIGHT);
+        assertTrue(m_first.undo());
+        assertEquals(1, m_first.getMoveCount());
+        assertEquals("r", m_first.getMoveLog().toString());
+        assertFalse(m_first.getCurrentLevel().isComplete());
+
+        assertTrue(m_first.redo());
+        assertEquals(2, m_first.getMoveCount());
+        assertEquals("rR", m_first.getMoveLog().toString());
+        assertFalse(m_first.redo());
+    }
+}
@@ -0,0 +1,123 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelCatalogTest {
+
+    private static final String MAP_SET = String.join("\n",
+            "MapSetName: Catalog Set",
+            "LevelName: First",
+            "WWWWW",
+            "WSCDW",
+            "WWWWW",
+            "LevelName: Second",
+            "WWWWWWW",
+            "WSC CDW",
+            "W   D W",
+            "WWWWWWW");
+
+    @TempDir
+    Path m_folder;
+
+    private Path writeMapSet(String text) throws IOException {
+        Path file = m_folder.resolve("set.skb");
+        Files.writeString(file, text);
+        return file;
+    }
+
+    @Test
+    void catalogIsWrittenOnFirstOpen() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex scanned = MapSetIndex.open(file);
+        MapSetIndex catalogued = MapSetIndex.open(file);
+
+        assertTrue(Files.exists(LevelCatalog.pathFor(file)));
+        assertEquals("Catalog Set", catalogued.getMapSetName());
+        assertEquals(2, catalogued.getLevelCount());
+        assertEquals("Second", catalogued.getLevelName(1));
+        assertEquals(scanned.getRows(1), catalogued.getRows(1));
+        assertEquals(4, catalogued.getRowCount(1));
+        assertEquals(7, catalogued.getColumnCount(1));
+        assertEquals(2, catalogued.getCrateCount(1));
+        assertEquals(scanned.getContentHash(0),
+                catalogued.getContentHash(0));
+        assertNotEquals(catalogued.getContentHash(0),
+                catalogued.getContentHash(1));
+        assertEquals(2, catalogued.getLevels().get(1).getIndex());
+    }
+
+    @Test
+    void changedFileMakesCatalogStale() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex.open(file);
+        writeMapSet(MAP_SET.replace("Second", "Other!"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(
+                Files.getLastModifiedTime(file).toMillis() + 10_000));
+        ByteBuffer source = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        assertNull(LevelCatalog.load(file, source));
+        assertEquals("Other!", MapSetIndex.open(file).getLevelName(1));
+        assertNotNull(LevelCatalog.load(file, source));
+    }
+
+    @Test
+    void indexOutlivesTheFile() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex.open(file);
+        MapSetIndex catalogued = MapSetIndex.open(file);
+        Files.writeString(file, "");
+
+        assertTrue(catalogued.getText(1).startsWith("\nLevelName: Second"));
+        assertEquals(2, catalogued.getLevels().get(1).getIndex());
+    }
+
+    @Test
+    void sameLengthEditIsStaleWhateverItsTime() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex.open(file);
+        FileTime time = Files.getLastModifiedTime(file);
+        writeMapSet(MAP_SET.replace("Second", "Other!"));
+        Files.setLastModifiedTime(file, time);
+
+        assertNull(LevelCatalog.load(file,
+                ByteBuffer.wrap(Files.readAllBytes(file))));
+        assertEquals("Other!", MapSetIndex.open(file).getLevelName(1));
+    }
+
+    @Test
+    void corruptCatalogIsRebuilt() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex.open(file);
+        Path catalog = LevelCatalog.pathFor(file);
+        byte[] bytes = Files.readAllBytes(catalog);
+        ByteBuffer.wrap(bytes).putInt(36 + 28, Integer.MAX_VALUE);
+        Files.write(catalog, bytes);
+        ByteBuffer source = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        assertNull(LevelCatalog.load(file, source));
+        assertEquals("First", MapSetIndex.open(file).getLevelName(0));
+        Files.write(catalog, new byte[]{1, 2, 3});
+        assertNull(LevelCatalog.load(file, source));
+        assertEquals("Second", MapSetIndex.open(file).getLevelName(1));
+        assertNotNull(LevelCatalog.load(file, source));
+    }
+
+    @Test
+    void touchedFileKeepsCatalog() throws IOException {
+        Path file = writeMapSet(MAP_SET);
+        MapSetIndex.open(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+        assertNotNull(LevelCatalog.load(file,
+                ByteBuffer.wrap(Files.readAllBytes(file))));
+    }
+}
@@ -0,0 +1,75 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelFingerprintTest {
+
+    private static final String[] LEVEL = {
+            "WWWWWW",
+            "WS  WW",
+            "W CC W",
+            "WD DWW",
+            "WWWWWW"};
+
+    private static LevelFingerprint fingerprint(String... rows) {
+        return LevelFingerprint.of(new Level("Test", 1, List.of(rows)));
+    }
+
+    @Test
+    void rotationsAndMirrorsMatch() {
+        LevelFingerprint original = fingerprint(LEVEL);
+
+        assertEquals(original, fingerprint(
+                "WWWWW",
+                "WS DW",
+                "W C W",
+                "W CDW",
+                "WW WW",
+                "WWWWW"));
+        assertEquals(original, fingerprint(
+                "WWWWWW",
+                "WW  SW",
+                "W CC W",
+                "WWD DW",
+                "WWWWWW"));
+    }
+
+    @Test
+    void outerSpaceAndKeeperSpotDoNotMatter() {
+        LevelFingerprint original = fingerprint(LEVEL);
+
+        assertEquals(original, fingerprint(
+                "WWWWWWWW",
+                "WWWWWWWW",
+                "WWWWWWWW",
+                "WWW  SWW",
+                "WWW CC W",
+                "WWWD DWW",
+                "WWWWWWWW"));
+        assertNotEquals(original, fingerprint(
+                "WWWWWW",
+                "WS  WW",
+                "W CC W",
+                "WDD WW",
+                "WWWWWW"));
+    }
+
+    @Test
+    void keeperRegionIsPartOfTheLevel() {
+        assertNotEquals(
+                fingerprint("WWWWWWW", "WS C DW", "WWWWWWW"),
+                fingerprint("WWWWWWW", "W  CSDW", "WWWWWWW"));
+    }
+
+    @Test
+    void textFormReadsBack() {
+        LevelFingerprint original = fingerprint(LEVEL);
+
+        assertEquals(32, original.toString().length());
+        assertEquals(original, LevelFingerprint.parse(original.toString()));
+    }
+}
@@ -79,4 +79,116 @@ class LevelTest {
         assertFalse(level.isComplete());
 
     }
+
+    @Test
+    void getKeeperPosition() {
+        assertEquals(new Point(18, 10), level.getKeeperPosition());
+    }
+
+    @Test
+    void isCompleteAfterPush() {
+        List<String> raw_level = new ArrayList<>();
+        raw_level.add("WWWWW");
+        raw_level.add("WSCDW");
+        raw_level.add("WWWWW");
+        Level small = new Level("small", 1, raw_level);
+        Point keeper = small.getKeeperPosition();
+        Point delta = new Point(0, 1);
+
+        assertFalse(small.isComplete());
+        small.moveGameObjectBy(GameObject.CRATE,
+                GameGrid.translatePoint(keeper, delta), delta);
+        small.moveGameObjectBy(GameObject.KEEPER, keeper, delta);
+        assertTrue(small.isComplete());
+        assertEquals(new Point(1, 2), small.getKeeperPosition());
+    }
+
+    @Test
+    void getCratedDiamondsCount() {
+        List<String> raw_level = new ArrayList<>();
+        raw_level.add("WWWWWW");
+        raw_level.add("WSO DW");
+        raw_level.add("WWWWWW");
+        Level small = new Level("small", 1, raw_level);
+        Point keeper = small.getKeeperPosition();
+        Point delta = new Point(0, 1);
+
+        assertEquals(1, small.getCratedDiamondsCount());
+        small.moveGameObjectBy(GameObject.CRATE,
+                GameGrid.translatePoint(keeper, delta), delta);
+        assertEquals(0, small.getCratedDiamondsCount());
+        assertFalse(small.isComplete());
+    }
+
+    @Test
+    void getHash() {
+        List<String> raw_level = new ArrayList<>();
+        raw_level.add("WWWWWWW");
+        raw_level.add("W S   W");
+        raw_level.add("W  C DW");
+        raw_level.add("WWWWWWW");
+        Level small = new Level("small", 1, raw_level);
+        long startHash = small.getHash();
+        Point right = new Point(0, 1);
+        Point down = new Point(1, 0);
+
+        small.moveGameObjectBy(GameObject.KEEPER, small.getKeeperPosition(),
+                down);
+        assertEquals(startHash, small.getHash());
+
+        Point keeper = small.getKeeperPosition();
+        small.moveGameObjectBy(GameObject.CRATE,
+                GameGrid.translatePoint(keeper, right), right);
+        small.moveGameObjectBy(GameObject.KEEPER, keeper, right);
+        assertNotEquals(startHash, small.getHash());
+
+        Point left = new Point(0, -1);
+        keeper = small.getKeeperPosition();
+        small.moveGameObjectBy(GameObject.KEEPER, keeper, left);
+        small.moveGameObjectBy(GameObject.CRATE,
+                GameGrid.translatePoint(keeper, right), left);
+        assertEquals(startHash, small.getHash());
+    }
+
+    @Test
+    void drainChangedCells() {
+        Level small = new Level("small", 1, List.of(
+                "WWWWWWW",
+                "WS C DW",
+                "WWWWWWW"));
+        List<Integer> changed = new ArrayList<>();
+
+        small.move(Direction.RIGHT);
+        small.move(Direction.RIGHT);
+        assertTrue(small.drainChangedCells(changed::add));
+        assertEquals(List.of(8, 9, 10, 11, 9, 10), changed);
+        assertEquals(GameObject.CRATE, small.getTileAt(11));
+        assertEquals(GameObject.DIAMOND, small.getTileAt(12));
+
+        changed.clear();
+        assertTrue(small.drainChangedCells(changed::add));
+        assertTrue(changed.isEmpty());
+        for (int i = 0; i < 40; i++) {
+            small.move(i % 2 == 0 ? Direction.LEFT : Direction.RIGHT);
+        }
+        assertFalse(small.drainChangedCells(changed::add));
+        assertTrue(changed.isEmpty());
+    }
+
+    @Test
+    void moveOutsideGridThrows() {
+        Level small = new Level("small", 1, List.of(
+                "WWWWWWW",
+                "WS C DW",
+                "WWWWWWW"));
+        long hash = small.getHash();
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () ->
+                small.moveGameObjectTo(GameObject.KEEPER,
+                        small.getKeeperPosition(), new Point(1, 7)));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () ->
+                small.moveGameObjectTo(GameObject.KEEPER, new Point(-1, 1),
+                        small.getKeeperPosition()));
+        assertEquals(hash, small.getHash());
+    }
 }
\ No newline at end of file
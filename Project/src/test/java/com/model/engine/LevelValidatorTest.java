@@ -0,0 +1,96 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelValidatorTest {
+
+    private final LevelValidator m_validator = new LevelValidator();
+
+    private LevelCheck check(String... rows) {
+        return m_validator.check("levelName", 1,
+                new ArrayList<>(List.of(rows)));
+    }
+
+    @Test
+    void wellFormedLevelIsPlayable() {
+        LevelCheck check = check(
+                "WWWWWW",
+                "W    W",
+                "W SC W",
+                "W   DW",
+                "W    W",
+                "WWWWWW");
+
+        assertTrue(check.isPlayable());
+        assertNotNull(check.getLevel());
+    }
+
+    @Test
+    void countsKeepersCratesAndDiamonds() {
+        LevelCheck check = check(
+                "WWWWWW",
+                "W SC W",
+                "W C DW",
+                "W  S W",
+                "WWWWWW");
+
+        assertFalse(check.isValid());
+        assertTrue(check.getErrors().contains("2 keepers"));
+        assertTrue(check.getErrors().contains("2 crates but 1 diamonds"));
+    }
+
+    @Test
+    void openWallsAndUnreachableCrates() {
+        LevelCheck check = check(
+                "WWWWWWWW",
+                "W S  DWD",
+                "W C  WCW",
+                "W    WWW",
+                "WWWW WWW");
+
+        assertTrue(check.getErrors().contains("Walls are not closed around " +
+                "the keeper"));
+        assertTrue(check.getErrors().contains("1 crates out of the " +
+                "keeper's reach"));
+        assertTrue(check.getErrors().contains("1 diamonds out of the " +
+                "keeper's reach"));
+    }
+
+    @Test
+    void startingDeadlockIsUnsolvable() {
+        LevelCheck check = check(
+                "WWWWWW",
+                "WC   W",
+                "W  S W",
+                "W   DW",
+                "WWWWWW");
+
+        assertTrue(check.isValid());
+        assertFalse(check.isPlayable());
+    }
+
+    @Test
+    void indexedMapSetIsCheckedInOrder() {
+        MapSetIndex mapSet = new MapSetIndex(String.join("\n",
+                "MapSetName: mapSet",
+                "LevelName: first",
+                "WWWWW", "WSCDW", "WWWWW",
+                "LevelName: second",
+                "WWWWW", "WS DW", "WWWWW").getBytes());
+        ValidationReport report = m_validator.validate(mapSet);
+
+        assertEquals(2, report.getChecks().size());
+        assertTrue(report.getChecks().get(0).isPlayable());
+        assertEquals(2, report.getChecks().get(1).getIndex());
+        assertFalse(report.getChecks().get(1).isValid());
+        assertNull(report.getChecks().get(0).getLevel());
+        assertEquals(1, report.countInvalid());
+        assertTrue(report.getSummary().startsWith("mapSet: 1/2 levels " +
+                "playable, 1 invalid, 0 unsolvable"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapSetIndexTest {
+
+    private static final String MAP_SET = String.join("\r\n",
+            "SaveGame",
+            "Moves: 4",
+            "MapSetName: Test Set",
+            "LevelName: First",
+            "wwwww",
+            "WSCDW",
+            "",
+            "WWWWW",
+            "LevelName: Empty",
+            "LevelName: Second",
+            "  WWWWWW  ",
+            "  WS CDW",
+            "  WWWWWW");
+
+    private MapSetIndex m_index;
+
+    @BeforeEach
+    void setUp() {
+        m_index = new MapSetIndex(MAP_SET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readsHeaderAndNames() {
+        assertEquals("Test Set", m_index.getMapSetName());
+        assertEquals(List.of("SaveGame", "Moves: 4"), m_index.getHeader());
+        assertEquals(2, m_index.getLevelCount());
+        assertEquals("First", m_index.getLevelName(0));
+        assertEquals("Second", m_index.getLevelName(1));
+    }
+
+    @Test
+    void rowsAreTrimmedAndUpperCase() {
+        assertEquals(List.of("WWWWW", "WSCDW", "WWWWW"), m_index.getRows(0));
+        assertEquals(List.of("WWWWWW", "WS CDW", "WWWWWW"),
+                m_index.getRows(1));
+    }
+
+    @Test
+    void levelsAreBuiltOnceOnFirstUse() {
+        List<Level> levels = m_index.getLevels();
+        Level second = levels.get(1);
+
+        assertEquals(2, levels.size());
+        assertSame(second, levels.get(1));
+        assertEquals(2, second.getIndex());
+        assertEquals("Second", second.getName());
+        assertTrue(m_index.getCheck(second).isPlayable());
+    }
+
+    @Test
+    void textFromLevelRunsToTheEnd() {
+        String text = m_index.getText(1);
+
+        assertTrue(text.startsWith("\nLevelName: Second"));
+        assertTrue(text.endsWith("  WWWWWW\n"));
+        assertEquals("", m_index.getText(2));
+    }
+
+    @Test
+    void buildAllKeepsMapSetOrder() {
+        StringBuilder text = new StringBuilder("MapSetName: Large\n");
+        for (int i = 1; i <= 200; i++) {
+            text.append("LevelName: ").append(i)
+                    .append("\nWWWWW\nWSCDW\nWWWWW\n");
+        }
+        MapSetIndex index = new MapSetIndex(text.toString()
+                .getBytes(StandardCharsets.UTF_8));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Level> levels;
+        try {
+            levels = index.buildAll(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(200, levels.size());
+        for (int i = 0; i < levels.size(); i++) {
+            assertEquals(i + 1, levels.get(i).getIndex());
+            assertEquals(String.valueOf(i + 1), levels.get(i).getName());
+            assertSame(levels.get(i), index.getLevel(i));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveLogTest {
+
+    private List<String> m_rawLevel;
+    private MoveLog m_moveLog;
+
+    @BeforeEach
+    void setUp() {
+        m_rawLevel = new ArrayList<>();
+        m_rawLevel.add("WWWWWWW");
+        m_rawLevel.add("W S   W");
+        m_rawLevel.add("W  C DW");
+        m_rawLevel.add("WWWWWWW");
+        m_moveLog = MoveLog.fromString("ldrRR");
+    }
+
+    @Test
+    void fromString() {
+        assertEquals(5, m_moveLog.size());
+        assertEquals(Direction.LEFT, m_moveLog.getDirection(0));
+        assertFalse(m_moveLog.isPush(2));
+        assertTrue(m_moveLog.isPush(4));
+        assertEquals("ldrRR", m_moveLog.toString());
+    }
+
+    @Test
+    void toByteArray() {
+        byte[] bytes = m_moveLog.toByteArray();
+        assertEquals(4 + 2 + 1, bytes.length);
+        assertEquals("ldrRR", MoveLog.fromByteArray(bytes).toString());
+    }
+
+    @Test
+    void recordGrows() {
+        MoveLog log = new MoveLog();
+        final int moves = 1000;
+        for (int i = 0; i < moves; i++) {
+            log.record((byte) (i % 4), i % 3 == 0);
+        }
+        assertEquals(moves, log.size());
+        assertEquals(Direction.LEFT, log.getDirection(moves - 1));
+        assertTrue(log.isPush(moves - 1));
+        assertEquals(log.toString(), MoveLog.fromByteArray
+                (log.toByteArray()).toString());
+        assertTrue(log.toByteArray().length < 4 + moves / 4 + moves / 8 + 2);
+    }
+
+    @Test
+    void verify() {
+        Level level = new Level("levelName", 1, m_rawLevel);
+        assertTrue(m_moveLog.verify(level));
+        assertTrue(level.isComplete());
+    }
+
+    @Test
+    void replayStopsOnMismatch() {
+        Level level = new Level("levelName", 1, m_rawLevel);
+        MoveLog wrongPush = MoveLog.fromString("ldrrR");
+        assertEquals(3, wrongPush.replay(level));
+        assertFalse(MoveLog.fromString("uu").verify(new Level("levelName", 1,
+                m_rawLevel)));
+    }
+
+    @Test
+    void truncate() {
+        m_moveLog.truncate(2);
+        assertEquals("ld", m_moveLog.toString());
+    }
+}
@@ -0,0 +1,127 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovementTest {
+
+    private final int m_moves = 10000;
+    private GameModel m_gameModel;
+    private Movement m_movement;
+
+    @BeforeEach
+    void setUp() {
+        m_gameModel = new GameModel();
+        m_gameModel.setCurrentLevel(createLevel());
+        m_movement = new Movement(m_gameModel);
+    }
+
+    private Level createLevel() {
+        return TestLevels.create(
+                "WWWWWWWWWWWWWWWWWWWW",
+                "WD S C             W",
+                "W                  W",
+                "WWWWWWWWWWWWWWWWWWWW");
+    }
+
+    @Test
+    void moveByte() {
+        m_movement.move(Direction.RIGHT);
+        assertEquals(new Point(1, 4), m_gameModel.getCurrentLevel().
+                getKeeperPosition());
+        assertEquals(1, m_gameModel.getSession().getMoveCount());
+    }
+
+    @Test
+    void movePoint() {
+        m_movement.move(new Point(0, -1));
+        assertEquals(new Point(1, 2), m_gameModel.getCurrentLevel().
+                getKeeperPosition());
+    }
+
+    @Test
+    void moveIsLogged() {
+        m_movement.move(Direction.LEFT);
+        m_movement.move(Direction.RIGHT);
+        m_movement.move(Direction.RIGHT);
+        m_movement.move(Direction.RIGHT);
+        assertEquals("lrrR", m_gameModel.getSession().getMoveLog().
+                toString());
+    }
+
+    @Test
+    void moveIntoWall() {
+        m_movement.move(Direction.UP);
+        assertEquals(new Point(1, 3), m_gameModel.getCurrentLevel().
+                getKeeperPosition());
+        assertEquals(0, m_gameModel.getSession().getMoveCount());
+    }
+
+    @Test
+    void redoWinningPushCompletesLevel() {
+        String[] rows = {"WWWWWWW", "W DCS W", "WWWWWWW"};
+        Level first = TestLevels.create(1, rows);
+        Level second = TestLevels.create(2, rows);
+        m_gameModel.getSession().setLevels(List.of(first, second));
+        m_gameModel.getSession().getLevelNameList().add("first");
+        m_gameModel.getSession().getLevelNameList().add("second");
+        m_gameModel.setCurrentLevel(first);
+
+        m_movement.move(Direction.RIGHT);
+        m_movement.move(Direction.LEFT);
+        m_gameModel.getSession().move(Direction.LEFT);
+        assertTrue(m_gameModel.getSession().undo());
+        assertFalse(first.isComplete());
+        assertFalse(m_gameModel.isLevelComplete());
+
+        assertTrue(m_movement.redo());
+        assertTrue(first.isComplete());
+        assertTrue(m_gameModel.isLevelComplete());
+        assertSame(second, m_gameModel.getCurrentLevel());
+        assertEquals("rlL", m_gameModel.getSession().getCompletedMoveLog().
+                toString());
+    }
+
+    @Test
+    void moveAllocatesNothing() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean)
+                        ManagementFactory.getThreadMXBean();
+        Level level = m_gameModel.getCurrentLevel();
+        for (int i = 0; i < 3; i++) {
+            m_gameModel.setCurrentLevel(createLevel());
+            walkAndPush();
+        }
+        m_gameModel.setCurrentLevel(level);
+
+        long baseline = threadBean.getCurrentThreadAllocatedBytes();
+        baseline = threadBean.getCurrentThreadAllocatedBytes() - baseline;
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        walkAndPush();
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() -
+                before - baseline;
+
+        // A single object per move would be over 100 KiB, the bound only
+        // leaves room for the JVM recompiling the loop during the window
+        assertTrue(allocated < m_moves / 10, allocated + " bytes allocated");
+    }
+
+    /**
+     * Walks the keeper back and forth then pushes the crate along the corridor
+     */
+    private void walkAndPush() {
+        for (int i = 0; i < m_moves / 2; i++) {
+            m_movement.move(Direction.DOWN);
+            m_movement.move(Direction.UP);
+        }
+        for (int i = 0; i < 12; i++) {
+            m_movement.move(Direction.RIGHT);
+        }
+    }
+}
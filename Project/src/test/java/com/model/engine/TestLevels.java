@@ -0,0 +1,39 @@
+package com.model.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds small levels from their rows for the engine and solver tests
+ *
+ * @author Zain Rashid
+ */
+public final class TestLevels {
+
+    /**
+     * TestLevels is a holder for the factory methods and is never instantiated
+     */
+    private TestLevels() {
+    }
+
+    /**
+     * Creates the first level of a map set from its rows
+     *
+     * @param rows the rows of the level, top to bottom
+     * @return new Level
+     */
+    public static Level create(String... rows) {
+        return create(1, rows);
+    }
+
+    /**
+     * Creates a level at a position in a map set from its rows
+     *
+     * @param index the position of the level in its map set, counting from 1
+     * @param rows  the rows of the level, top to bottom
+     * @return new Level
+     */
+    public static Level create(int index, String... rows) {
+        return new Level("levelName", index, new ArrayList<>(List.of(rows)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UndoHistoryTest {
+
+    private Level m_level;
+    private UndoHistory m_history;
+
+    @BeforeEach
+    void setUp() {
+        List<String> raw_level = new ArrayList<>();
+        raw_level.add("WWWWWWW");
+        raw_level.add("WS C DW");
+        raw_level.add("WWWWWWW");
+        m_level = new Level("levelName", 1, raw_level);
+        m_history = new UndoHistory(2);
+    }
+
+    private void move(byte direction) {
+        byte result = m_level.move(direction);
+        m_history.record(direction, result == Level.PUSHED);
+    }
+
+    @Test
+    void undoRestoresLevel() {
+        long hash = m_level.getHash();
+        int keeper = m_level.getKeeperIndex();
+        move(Direction.RIGHT);
+        move(Direction.RIGHT);
+        assertEquals(GameObject.CRATE, m_level.getObjectAt(new Point(1, 4)));
+
+        assertTrue(m_history.undo(m_level));
+        assertEquals(GameObject.CRATE, m_level.getObjectAt(new Point(1, 3)));
+        assertTrue(m_history.undo(m_level));
+        assertFalse(m_history.undo(m_level));
+        assertEquals(keeper, m_level.getKeeperIndex());
+        assertEquals(hash, m_level.getHash());
+    }
+
+    @Test
+    void redoPlaysUndoneMoves() {
+        move(Direction.RIGHT);
+        move(Direction.RIGHT);
+        m_history.undo(m_level);
+        m_history.undo(m_level);
+        assertEquals(2, m_history.getRedoCount());
+        assertEquals(Direction.RIGHT, m_history.peekRedoDirection());
+
+        assertEquals(Level.MOVED, m_history.redo(m_level));
+        assertEquals(Level.PUSHED, m_history.redo(m_level));
+        assertEquals(Level.BLOCKED, m_history.redo(m_level));
+        assertEquals(GameObject.CRATE, m_level.getObjectAt(new Point(1, 4)));
+    }
+
+    @Test
+    void recordClearsRedo() {
+        move(Direction.RIGHT);
+        m_history.undo(m_level);
+        move(Direction.LEFT);
+        assertEquals(0, m_history.getRedoCount());
+        assertEquals(Direction.NONE, m_history.peekRedoDirection());
+    }
+
+    @Test
+    void fullHistoryDropsOldest() {
+        move(Direction.RIGHT);
+        move(Direction.RIGHT);
+        move(Direction.RIGHT);
+        assertEquals(2, m_history.getUndoCount());
+        assertTrue(m_history.undo(m_level));
+        assertTrue(m_history.undo(m_level));
+        assertFalse(m_history.undo(m_level));
+        assertEquals(new Point(1, 2), m_level.getKeeperPosition());
+    }
+
+    @Test
+    void historyGrowsToCapacity() {
+        m_history = new UndoHistory(300);
+        for (int i = 0; i < 301; i++) {
+            move(i % 2 == 0 ? Direction.RIGHT : Direction.LEFT);
+        }
+        assertEquals(300, m_history.getUndoCount());
+        for (int i = 0; i < 300; i++) {
+            assertTrue(m_history.undo(m_level));
+        }
+        assertFalse(m_history.undo(m_level));
+        assertEquals(new Point(1, 2), m_level.getKeeperPosition());
+    }
+}
@@ -0,0 +1,91 @@
+package com.model.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XsbImporterTest {
+
+    private List<Level> read(String... lines) throws IOException {
+        return XsbImporter.readAll(new ByteArrayInputStream(String.join("\n",
+                lines).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readsStandardSymbols() throws IOException {
+        Level level = read(
+                "  #####",
+                "###   #",
+                "#+$*  #",
+                "#  .$ #",
+                "#######").get(0);
+
+        assertEquals(new Point(2, 1), level.getKeeperPosition());
+        assertEquals(GameObject.DIAMOND,
+                level.getDiamondsGrid().getGameObjectAt(2, 1));
+        assertEquals(GameObject.CRATE, level.getObjectAt(new Point(2, 3)));
+        assertEquals(GameObject.DIAMOND,
+                level.getDiamondsGrid().getGameObjectAt(2, 3));
+        assertEquals(GameObject.FLOOR, level.getObjectAt(new Point(3, 3)));
+        assertEquals(GameObject.EMPTY, level.getObjectAt(new Point(0, 0)));
+        assertFalse(level.isComplete());
+    }
+
+    @Test
+    void expandsRunLengths() throws IOException {
+        Level encoded = read("7#|#.@-$-#|7#").get(0);
+        Level plain = read(
+                "#######",
+                "#.@ $ #",
+                "#######").get(0);
+
+        assertEquals(plain.toString(), encoded.toString());
+        assertEquals(plain.getDiamondsGrid().toString(),
+                encoded.getDiamondsGrid().toString());
+    }
+
+    @Test
+    void namesLevelsOfACollection() throws IOException {
+        List<Level> levels = read(
+                "Title: Collection",
+                "; First Level",
+                "#####",
+                "#@$.#",
+                "#####",
+                "",
+                "#####",
+                "#.$@#",
+                "#####",
+                "Title: Second",
+                "Author: Someone",
+                "",
+                "#####",
+                "#@*##",
+                "#####");
+
+        assertEquals(3, levels.size());
+        assertEquals("First Level", levels.get(0).getName());
+        assertEquals("Second", levels.get(1).getName());
+        assertEquals("Level 3", levels.get(2).getName());
+        assertEquals(3, levels.get(2).getIndex());
+        assertTrue(levels.get(2).isComplete());
+    }
+
+    @Test
+    void importerReadsLevelsOneAtATime() throws IOException {
+        try (XsbImporter importer = new XsbImporter(new StringReader(
+                "Title: Pack\n#####\n#@$.#\n#####\n"))) {
+            assertTrue(importer.hasNext());
+            assertEquals("Pack", importer.getCollectionTitle());
+            assertEquals("Level 1", importer.next().getName());
+            assertFalse(importer.hasNext());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.model.features;
 
+import com.model.engine.GameModel;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -8,7 +9,7 @@ class LeaderboardModelTest {
 
     @Test
     void printArray() {
-        assertEquals("", LeaderboardModel.
+        assertEquals("", new LeaderboardModel(new GameModel()).
                 printArray());
     }
 }
\ No newline at end of file
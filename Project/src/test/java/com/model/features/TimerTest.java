@@ -11,8 +11,8 @@ class TimerTest {
     void resetTimer() {
         GameModel gameModel = new GameModel();
         Timer timer = new Timer(gameModel);
-        Timer.setTimeCount(10);
+        gameModel.getSession().setTimeCount(10);
         timer.resetTimer();
-        assertEquals(0,Timer.getTimeCount());
+        assertEquals(0,gameModel.getSession().getTimeCount());
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.model.solver;
+
+import com.model.engine.Direction;
+import com.model.engine.TestLevels;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentBoundTest {
+
+    private Board createBoard(String... rows) {
+        return new Board(TestLevels.create(rows));
+    }
+
+    @Test
+    void estimateMatchesCheapestAssignment() {
+        Board board = createBoard(
+                "WWWWWWWW",
+                "WD    DW",
+                "W C  C W",
+                "W   S  W",
+                "WWWWWWWW");
+        AssignmentBound bound = new AssignmentBound(board);
+
+        assertEquals(4, bound.estimate(board.getCrates(),
+                new int[bound.getMatchingLength()]));
+    }
+
+    @Test
+    void updateMatchesFullEstimate() {
+        Board board = createBoard(
+                "WWWWWWWWW",
+                "WD  D  DW",
+                "W       W",
+                "W C C C W",
+                "W       W",
+                "W   S   W",
+                "WWWWWWWWW");
+        AssignmentBound bound = new AssignmentBound(board);
+        int[] crates = board.getCrates();
+        int[] matching = new int[bound.getMatchingLength()];
+        int[] full = new int[bound.getMatchingLength()];
+        bound.estimate(crates, matching);
+
+        byte[] pushes = {Direction.LEFT, Direction.UP, Direction.RIGHT,
+                Direction.RIGHT, Direction.UP, Direction.LEFT};
+        for (int push = 0; push < pushes.length; push++) {
+            int moved = push % crates.length;
+            crates[moved] = board.getNeighbour(crates[moved], pushes[push]);
+            assertEquals(bound.estimate(crates, full),
+                    bound.estimate(crates, moved, matching, matching));
+        }
+    }
+
+    @Test
+    void deadCrateIsUnreachable() {
+        Board board = createBoard(
+                "WWWWWW",
+                "WC   W",
+                "W  S W",
+                "W   DW",
+                "WWWWWW");
+        AssignmentBound bound = new AssignmentBound(board);
+
+        assertEquals(Board.UNREACHABLE, bound.estimate(board.getCrates(),
+                new int[bound.getMatchingLength()]));
+    }
+}
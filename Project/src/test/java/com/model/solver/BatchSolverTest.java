@@ -0,0 +1,114 @@
+package com.model.solver;
+
+import com.model.engine.Level;
+import com.model.engine.MapSetIndex;
+import com.model.engine.TestLevels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSolverTest {
+
+    private Level createHardLevel() {
+        return TestLevels.create(4,
+                "WWWWWWWWWWWWWWWWWWWW",
+                "W  WWWD            W",
+                "W  WWWWW WWWWWWWW WW",
+                "W     DW W       C W",
+                "WW WWWWW W       C W",
+                "WW    DW W         W",
+                "WW  W  W W WWWWWW WW",
+                "WWW W WW           W",
+                "WWW W WW W WWWWWWWWW",
+                "W     WW WWWD      W",
+                "W  W  WW WWW       W",
+                "WW WWWWW WWW       W",
+                "WW WWWWW WWWW WWWWWW",
+                "WW       S         W",
+                "WW  WWWW           W",
+                "WWWWW  W  WWWWWWCCWW",
+                "WWWWW             WW",
+                "WWWWW W         C WW",
+                "WD      WWWWWWWWWWWW",
+                "WWWWWWWWWWWWWWWWWWWW");
+    }
+
+    @Test
+    void solveAll() {
+        List<Level> levels = new ArrayList<>();
+        levels.add(TestLevels.create(1, "WWWWWW", "WS CDW", "WWWWWW"));
+        levels.add(TestLevels.create(2, "WWWWWW", "WC  DW", "W  S W",
+                "WWWWWW"));
+        levels.add(TestLevels.create(3, "WWWWW", "WSCCW", "WD  W", "WWWWW"));
+        levels.add(TestLevels.create(4, "WWWWWWW", "WS C DW", "WWWWWWW"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        BatchReport report;
+        try {
+            report = new BatchSolver(new Solver(), pool).solveAll(levels);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(4, report.getResults().size());
+        assertEquals(levels, report.getLevels());
+        assertEquals(1, report.getResults().get(0).getPushCount());
+        assertEquals(SolverResult.Status.UNSOLVABLE,
+                report.getResults().get(1).getStatus());
+        assertEquals(SolverResult.Status.INVALID,
+                report.getResults().get(2).getStatus());
+        assertEquals(2, report.getResults().get(3).getPushCount());
+        assertEquals(2, report.count(SolverResult.Status.SOLVED));
+    }
+
+    @Test
+    void solvesLazyMapSetList() {
+        MapSetIndex index = new MapSetIndex(String.join("\n",
+                "MapSetName: mapSet",
+                "LevelName: first",
+                "WWWWWW", "WS CDW", "WWWWWW",
+                "LevelName: second",
+                "WWWWWWW", "WS C DW", "WWWWWWW").getBytes());
+        BatchReport report = new BatchSolver(new Solver())
+                .solveAll(index.getLevels());
+
+        assertEquals(2, report.count(SolverResult.Status.SOLVED));
+        assertSame(index.getLevel(0), report.getLevels().get(0));
+        assertSame(index.getLevel(1), report.getLevels().get(1));
+    }
+
+    @Test
+    void timeAndMemoryLimits() {
+        Solver solver = new Solver();
+        solver.setTimeLimit(50);
+        assertEquals(SolverResult.Status.LIMIT_REACHED,
+                solver.solve(createHardLevel()).getStatus());
+
+        solver = new Solver(Solver.Algorithm.IDA_STAR);
+        solver.setMemoryLimit(64 * 1024);
+        SolverResult result = solver.solve(createHardLevel());
+        assertEquals(SolverResult.Status.LIMIT_REACHED, result.getStatus());
+        assertTrue(result.getPeakMemory() > 64 * 1024);
+    }
+
+    @Test
+    void cancel() throws InterruptedException {
+        BatchSolver batchSolver = new BatchSolver(new Solver());
+        List<Level> levels = List.of(createHardLevel(), createHardLevel());
+        BatchReport[] report = new BatchReport[1];
+        Thread thread = new Thread(() ->
+                report[0] = batchSolver.solveAll(levels));
+        thread.start();
+        Thread.sleep(100);
+        batchSolver.cancel();
+        thread.join(10000);
+
+        assertFalse(thread.isAlive());
+        assertTrue(batchSolver.isCancelled());
+        assertEquals(2, report[0].count(SolverResult.Status.CANCELLED));
+    }
+}
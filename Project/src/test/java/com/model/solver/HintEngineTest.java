@@ -0,0 +1,97 @@
+package com.model.solver;
+
+import com.model.engine.Direction;
+import com.model.engine.Level;
+import com.model.engine.TestLevels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintEngineTest {
+
+    private Level createCornerLevel() {
+        return TestLevels.create(
+                "WWWWWWW",
+                "WS    W",
+                "W  C  W",
+                "W    DW",
+                "WWWWWWW");
+    }
+
+    @Test
+    void hintFollowsSolution() {
+        HintEngine hints = new HintEngine(new Solver(), Runnable::run);
+        Level level = createCornerLevel();
+
+        hints.request(level);
+        assertFalse(hints.isPending());
+        while (!level.isComplete()) {
+            byte move = hints.getHint(level);
+            assertTrue(move >= Direction.UP && move <= Direction.LEFT);
+            level.move(move);
+        }
+    }
+
+    @Test
+    void cancelledSolveStoresNothing() {
+        List<Runnable> queued = new ArrayList<>();
+        HintEngine hints = new HintEngine(new Solver(), queued::add);
+        Level level = createCornerLevel();
+
+        hints.request(level);
+        assertTrue(hints.isPending());
+        hints.cancel();
+        queued.forEach(Runnable::run);
+        assertEquals(HintEngine.NOT_READY, hints.getHint(level));
+    }
+
+    @Test
+    void walkInRegionKeepsPendingSolve() {
+        List<Runnable> queued = new ArrayList<>();
+        HintEngine hints = new HintEngine(new Solver(), queued::add);
+        Level level = createCornerLevel();
+
+        hints.request(level);
+        assertEquals(Level.MOVED, level.move(Direction.RIGHT));
+        assertEquals(Level.BLOCKED, level.move(Direction.UP));
+        hints.request(level);
+        assertTrue(hints.isPending());
+        assertEquals(1, queued.size());
+
+        queued.forEach(Runnable::run);
+        assertNotEquals(HintEngine.NOT_READY, hints.getHint(level));
+    }
+
+    @Test
+    void requestCopiesLevel() {
+        List<Runnable> queued = new ArrayList<>();
+        HintEngine hints = new HintEngine(new Solver(), queued::add);
+        Level level = createCornerLevel();
+        Level start = level.copy();
+
+        hints.request(level);
+        level.move(Direction.RIGHT);
+        level.move(Direction.RIGHT);
+        assertEquals(Level.PUSHED, level.move(Direction.DOWN));
+        assertEquals(level.getHash(), level.copy().getHash());
+        queued.forEach(Runnable::run);
+        assertNotEquals(HintEngine.NOT_READY, hints.getHint(start));
+    }
+
+    @Test
+    void deadlockedHasNoSolution() {
+        HintEngine hints = new HintEngine(new Solver(), Runnable::run);
+        Level level = TestLevels.create(
+                "WWWWWW",
+                "WC   W",
+                "W  S W",
+                "W   DW",
+                "WWWWWW");
+
+        hints.request(level);
+        assertEquals(HintEngine.NO_SOLUTION, hints.getHint(level));
+    }
+}
@@ -0,0 +1,140 @@
+package com.model.solver;
+
+import com.model.engine.Level;
+import com.model.engine.MoveLog;
+import com.model.engine.TestLevels;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverTest {
+
+    private List<Level> loadMapSet(String name) throws IOException {
+        List<Level> levels = new ArrayList<>();
+        List<String> rawLevel = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/maps/" + name)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("LevelName") && !rawLevel.isEmpty()) {
+                    levels.add(new Level(name, levels.size() + 1, rawLevel));
+                    rawLevel = new ArrayList<>();
+                } else if (line.trim().toUpperCase().matches(".*W.*W.*")) {
+                    rawLevel.add(line.trim().toUpperCase());
+                }
+            }
+        }
+        if (!rawLevel.isEmpty()) {
+            levels.add(new Level(name, levels.size() + 1, rawLevel));
+        }
+        return levels;
+    }
+
+    @Test
+    void solvesWithFewestPushes() {
+        for (Solver.Algorithm algorithm : Solver.Algorithm.values()) {
+            Level level = TestLevels.create(
+                    "WWWWWWW",
+                    "W     W",
+                    "WC S CW",
+                    "WD   DW",
+                    "WWWWWWW");
+            SolverResult result = new Solver(algorithm).solve(level);
+
+            assertTrue(result.isSolved(), algorithm.name());
+            assertEquals(2, result.getPushCount(), algorithm.name());
+            assertTrue(MoveLog.fromString(result.getSolution()).verify(level));
+        }
+    }
+
+    @Test
+    void reusedTableGivesSameResult() {
+        for (Solver.Algorithm algorithm : Solver.Algorithm.values()) {
+            Solver solver = new Solver(algorithm);
+            Level level = TestLevels.create(
+                    "WWWWWWW",
+                    "W     W",
+                    "WC S CW",
+                    "WD   DW",
+                    "WWWWWWW");
+            SolverResult first = solver.solve(level);
+            SolverResult second = solver.solve(level);
+
+            assertEquals(first.getSolution(), second.getSolution());
+            assertEquals(first.getNodesExpanded(), second.getNodesExpanded());
+            assertEquals(first.getTableHitRate(), second.getTableHitRate());
+        }
+    }
+
+    @Test
+    void solveLeavesLevelUnchanged() {
+        Level level = TestLevels.create("WWWWWW", "WS CDW", "WWWWWW");
+        long hash = level.getHash();
+        SolverResult result = new Solver().solve(level);
+
+        assertEquals("rR", result.getSolution());
+        assertEquals(hash, level.getHash());
+    }
+
+    @Test
+    void unsolvable() {
+        for (Solver.Algorithm algorithm : Solver.Algorithm.values()) {
+            Level level = TestLevels.create(
+                    "WWWWWW",
+                    "WC  DW",
+                    "W  S W",
+                    "WWWWWW");
+            SolverResult result = new Solver(algorithm).solve(level);
+            assertEquals(SolverResult.Status.UNSOLVABLE, result.getStatus());
+            assertNull(result.getSolution());
+        }
+    }
+
+    @Test
+    void invalidAndLimitReached() {
+        assertEquals(SolverResult.Status.INVALID, new Solver().solve(
+                TestLevels.create("WWWWW", "WSCCW", "WD  W", "WWWWW"))
+                .getStatus());
+
+        Solver solver = new Solver();
+        solver.setNodeLimit(1);
+        assertEquals(SolverResult.Status.LIMIT_REACHED, solver.solve(
+                TestLevels.create("WWWWWWW", "WS C DW", "WWWWWWW"))
+                .getStatus());
+    }
+
+    @Test
+    void solvesBundledMapSets() throws IOException {
+        for (String mapSet : new String[]{"Easy.skb", "EasyVideo.skb"}) {
+            for (Level level : loadMapSet(mapSet)) {
+                SolverResult result = new Solver().solve(level);
+                assertTrue(result.isSolved(), mapSet + " " +
+                        level.getIndex() + " " + result);
+                assertTrue(MoveLog.fromString(result.getSolution())
+                        .verify(level));
+                assertTrue(result.getNodesExpanded() > 0);
+            }
+        }
+    }
+
+    @Test
+    void sampleGameWithinBudget() throws IOException {
+        Solver solver = new Solver(Solver.Algorithm.IDA_STAR);
+        solver.setNodeLimit(20000);
+        for (Level level : loadMapSet("SampleGame.skb")) {
+            SolverResult result = solver.solve(level);
+            assertNotEquals(SolverResult.Status.UNSOLVABLE, result.getStatus());
+            assertNotEquals(SolverResult.Status.INVALID, result.getStatus());
+            if (result.isSolved()) {
+                assertTrue(MoveLog.fromString(result.getSolution())
+                        .verify(level));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.model.solver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void storeIfLower() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.getCapacity());
+        assertEquals(128 * 16, table.getMemoryBytes());
+
+        assertTrue(table.storeIfLower(42L, 7));
+        assertFalse(table.storeIfLower(42L, 7));
+        assertFalse(table.storeIfLower(42L, 9));
+        assertTrue(table.storeIfLower(42L, 3));
+        assertEquals(3, table.get(42L));
+        assertEquals(TranspositionTable.NOT_FOUND, table.get(43L));
+        assertEquals(1, table.getSize());
+    }
+
+    @Test
+    void zeroHash() {
+        TranspositionTable table = new TranspositionTable(16);
+        assertEquals(TranspositionTable.NOT_FOUND, table.get(0));
+        assertTrue(table.storeIfLower(0, 5));
+        assertEquals(5, table.get(0));
+    }
+
+    @Test
+    void nextGenerationForgetsEntries() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.storeIfLower(1L, 1);
+        table.nextGeneration();
+        assertEquals(0, table.getSize());
+        assertEquals(TranspositionTable.NOT_FOUND, table.get(1L));
+        assertTrue(table.storeIfLower(1L, 2));
+    }
+
+    @Test
+    void resetForgetsEntriesAndStatistics() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.storeIfLower(1L, 1);
+        table.get(1L);
+        table.get(2L);
+        table.reset();
+        assertEquals(0, table.getSize());
+        assertEquals(0, table.getHitRate());
+        assertEquals(TranspositionTable.NOT_FOUND, table.get(1L));
+    }
+
+    @Test
+    void fullWindowReplacesMostPushes() {
+        TranspositionTable table = new TranspositionTable(16);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(table.storeIfLower(i * 16L, i));
+        }
+        assertEquals(0.5, table.getLoad());
+        assertTrue(table.storeIfLower(8 * 16L, 0));
+
+        assertEquals(1, table.getReplacements());
+        assertEquals(TranspositionTable.NOT_FOUND, table.get(7 * 16L));
+        assertEquals(0, table.get(8 * 16L));
+        assertEquals(6, table.get(6 * 16L));
+        assertTrue(table.getCollisions() > 0);
+        assertTrue(table.getHitRate() > 0);
+    }
+}